@@ -0,0 +1,97 @@
+package com.codingassistant.service;
+
+import com.codingassistant.config.ScoringProperties;
+import com.codingassistant.dto.AssessmentScoresAndNotesDTO;
+import com.codingassistant.model.Assessment;
+import com.codingassistant.model.AssessmentCategory;
+import com.codingassistant.model.Tool;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The per-tool write path behind PUT /tools/{id} and PUT /tools/batch: score JSON building,
+// note JSON building, diffing against the stored values and the by-name category lookup they all do four times.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssessmentUpdateBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int catalogSize;
+
+    private List<Tool> catalog;
+    private AssessmentService assessmentService;
+    // Two payloads that differ in one sub-score and one note, swapped on every pass over the catalog, so each
+    // call diffs against the other payload's values instead of degenerating into a no-op update.
+    private AssessmentScoresAndNotesDTO[] updates;
+    private AssessmentScoresAndNotesDTO update;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = ScorecardFixtures.catalog(catalogSize, 42);
+        assessmentService = new AssessmentService(new ScoringEngine(new ScoringProperties()));
+        AssessmentScoresAndNotesDTO revised = ScorecardFixtures.scoresAndNotes(ScorecardFixtures.objectMapper());
+        revised.getScores().getValue().setValue(revised.getScores().getValue().getValue() + 1);
+        revised.getNotes().getValue().setValue("Revised pricing");
+        updates = new AssessmentScoresAndNotesDTO[]{ScorecardFixtures.scoresAndNotes(ScorecardFixtures.objectMapper()), revised};
+        update = updates[0];
+    }
+
+    // Walks the catalog so larger catalogs also show the cache-miss cost of touching cold entities.
+    private Assessment nextAssessment() {
+        Assessment assessment = catalog.get(next).getAssessment();
+        if (++next == catalog.size()) {
+            next = 0;
+            update = update == updates[0] ? updates[1] : updates[0];
+        }
+        return assessment;
+    }
+
+    @Benchmark
+    public Assessment applyScoresAndNotes() throws JsonProcessingException {
+        Assessment assessment = nextAssessment();
+        assessmentService.applyScoresAndNotes(update, assessment);
+        return assessment;
+    }
+
+    @Benchmark
+    public Assessment buildScoreJson() throws JsonProcessingException {
+        Assessment assessment = nextAssessment();
+        assessmentService.updateScores(update.getScores(), assessment, new ArrayList<>());
+        return assessment;
+    }
+
+    @Benchmark
+    public Assessment buildNoteJson() throws JsonProcessingException {
+        Assessment assessment = nextAssessment();
+        assessmentService.updateNotes(update.getNotes(), assessment, new ArrayList<>());
+        return assessment;
+    }
+
+    @Benchmark
+    public void lookupCategory(Blackhole blackhole) {
+        List<AssessmentCategory> categories = nextAssessment().getCategories();
+        for (String name : ScorecardFixtures.CATEGORY_NAMES) {
+            blackhole.consume(AssessmentService.getCategoryByName(name, categories));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.AssessmentScoresAndNotesDTO;
+import com.codingassistant.model.Assessment;
+import com.codingassistant.model.AssessmentCategory;
+import com.codingassistant.model.AssessmentScore;
+import com.codingassistant.model.Tool;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+final class ScorecardFixtures {
+
+    static final String[] CATEGORY_NAMES = {"Intelligence", "Acceleration", "Experience", "Value"};
+
+    private static final String[] STATUSES = {"active", "beta", "deprecated"};
+    private static final String[] TOOL_CATEGORIES = {"IDE Plugin", "CLI", "Web", "Agent"};
+
+    private ScorecardFixtures() {
+    }
+
+    // Mirrors the spring.jackson settings in application.yml.
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+    }
+
+    // Entities shaped like the seeded data: one assessment, one score row and four category rows per tool,
+    // with score/note payloads in the same JSON layout AssessmentService writes.
+    static List<Tool> catalog(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Tool> tools = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            Tool tool = new Tool();
+            tool.setId((long) i);
+            tool.setName("Tool " + i);
+            tool.setDescription("Synthetic coding assistant #" + i + " used for benchmarking the scorecard");
+            tool.setStatus(STATUSES[i % STATUSES.length]);
+            tool.setCategory(TOOL_CATEGORIES[i % TOOL_CATEGORIES.length]);
+            tool.setLastAssessment(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+
+            Assessment assessment = new Assessment();
+            assessment.setId((long) i);
+            assessment.setTool(tool);
+            tool.setAssessment(assessment);
+
+            AssessmentScore score = new AssessmentScore();
+            score.setId((long) i);
+            score.setAssessment(assessment);
+            score.setIntelligence(random.nextInt(3, 31));
+            score.setAcceleration(random.nextInt(3, 31));
+            score.setExperience(random.nextInt(3, 31));
+            score.setValue(random.nextInt(1, 11));
+            score.setTotal(score.getIntelligence() + score.getAcceleration() + score.getExperience() + score.getValue());
+            assessment.setAssessmentScore(score);
+
+            List<AssessmentCategory> categories = new ArrayList<>(CATEGORY_NAMES.length);
+            for (int c = 0; c < CATEGORY_NAMES.length; c++) {
+                AssessmentCategory category = new AssessmentCategory();
+                category.setId((long) i * CATEGORY_NAMES.length + c);
+                category.setAssessment(assessment);
+                category.setName(CATEGORY_NAMES[c]);
+                category.setScore(categoryScore(CATEGORY_NAMES[c], random));
+                category.setNote("{\"note\": \"{\\\"summary\\\":\\\"Reviewed on the standard task set\\\"}\" }");
+                categories.add(category);
+            }
+            assessment.setCategories(categories);
+            tools.add(tool);
+        }
+        return tools;
+    }
+
+    static AssessmentScoresAndNotesDTO scoresAndNotes(ObjectMapper objectMapper) {
+        try {
+            return objectMapper.readValue("""
+                    {"scores":{"acceleration":{"capabilities":8,"iterationSize":7,"iterationSpeed":8},
+                               "intelligence":{"autonomy":7,"outputQuality":7,"contextAwareness":7},
+                               "experience":{"easeOfUse":8,"flexibility":7,"reliability":8},
+                               "value":{"value":6}},
+                     "notes":{"acceleration":{"capabilities":"Multi-file edits","iterationSize":"Large diffs","iterationSpeed":"Fast"},
+                              "intelligence":{"autonomy":"Needs guidance","outputQuality":"Good","contextAwareness":"Repo-wide"},
+                              "experience":{"easeOfUse":"Simple","flexibility":"Configurable","reliability":"Stable"},
+                              "value":{"value":"Fair pricing"}}}
+                    """, AssessmentScoresAndNotesDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String categoryScore(String name, SplittableRandom random) {
+        return switch (name) {
+            case "Intelligence" -> "{\"score\": {\"autonomy\":" + random.nextInt(1, 11) + ",\"outputQuality\":"
+                    + random.nextInt(1, 11) + ",\"contextAwareness\":" + random.nextInt(1, 11) + "} }";
+            case "Acceleration" -> "{\"score\": {\"capabilities\":" + random.nextInt(1, 11) + ",\"iterationSize\":"
+                    + random.nextInt(1, 11) + ",\"iterationSpeed\":" + random.nextInt(1, 11) + "} }";
+            case "Experience" -> "{\"score\": {\"easeOfUse\":" + random.nextInt(1, 11) + ",\"flexibility\":"
+                    + random.nextInt(1, 11) + ",\"reliability\":" + random.nextInt(1, 11) + "} }";
+            default -> "{\"score\": {\"value\":" + random.nextInt(1, 11) + "} }";
+        };
+    }
+}
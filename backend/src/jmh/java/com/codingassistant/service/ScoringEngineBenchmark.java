@@ -0,0 +1,69 @@
+package com.codingassistant.service;
+
+import com.codingassistant.config.ScoringProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Re-scoring the whole catalog under a weighted profile, i.e. the cost of one what-if leaderboard
+// before ranking; -prof gc should show only the result array being allocated.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringEngineBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int catalogSize;
+
+    private ScoringEngine scoringEngine;
+    private ScoringProfile profile;
+    private SubScoreMatrix matrix;
+    private int[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ScoringProperties scoringProperties = new ScoringProperties();
+        scoringProperties.getProfiles().put("weighted", Map.of("capabilities", 2.0, "reliability", 1.5, "value", 3.0));
+        scoringEngine = new ScoringEngine(scoringProperties);
+        profile = scoringEngine.getProfile("weighted");
+        matrix = new SubScoreMatrix(catalogSize);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < catalogSize; i++) {
+            int offset = matrix.add(i + 1, "Tool " + (i + 1));
+            for (int d = 0; d < ScoringProfile.SUB_SCORES; d++) {
+                matrix.subScores()[offset + d] = random.nextInt(1, 11);
+            }
+        }
+        scores = new int[catalogSize * ScoringProfile.SCORES];
+    }
+
+    @Benchmark
+    public int[] rescoreCatalog() {
+        return scoringEngine.rescore(profile, matrix);
+    }
+
+    @Benchmark
+    public int[] evaluateSequentially() {
+        int[] subScores = matrix.subScores();
+        for (int i = 0; i < matrix.size(); i++) {
+            profile.evaluate(subScores, i * ScoringProfile.SUB_SCORES, scores, i * ScoringProfile.SCORES);
+        }
+        return scores;
+    }
+}
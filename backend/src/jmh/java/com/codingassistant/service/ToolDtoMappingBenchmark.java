@@ -0,0 +1,85 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.AssessmentCategoryDto;
+import com.codingassistant.dto.ToolDto;
+import com.codingassistant.model.Tool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Entity -> DTO mapping and ToolDto serialization over a whole synthetic catalog, i.e. what
+// GET /tools and GET /tools/export cost per tool once the rows are in memory.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolDtoMappingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int catalogSize;
+
+    private List<Tool> catalog;
+    private ObjectMapper objectMapper;
+    private Set<ToolField> allFields;
+    private Set<ToolField> scoresOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = ScorecardFixtures.catalog(catalogSize, 42);
+        objectMapper = ScorecardFixtures.objectMapper();
+        allFields = EnumSet.allOf(ToolField.class);
+        scoresOnly = EnumSet.of(ToolField.ASSESSMENT);
+    }
+
+    @Benchmark
+    public List<ToolDto> mapFullToolDtos() {
+        List<ToolDto> toolDtos = new ArrayList<>(catalog.size());
+        for (Tool tool : catalog) {
+            toolDtos.add(ToolService.toolDto(tool, allFields));
+        }
+        return toolDtos;
+    }
+
+    @Benchmark
+    public List<ToolDto> mapScoreOnlyToolDtos() {
+        List<ToolDto> toolDtos = new ArrayList<>(catalog.size());
+        for (Tool tool : catalog) {
+            toolDtos.add(ToolService.toolDto(tool, scoresOnly));
+        }
+        return toolDtos;
+    }
+
+    @Benchmark
+    public List<AssessmentCategoryDto> mapCategories() {
+        List<AssessmentCategoryDto> categoryDtos = new ArrayList<>(catalog.size() * 4);
+        for (Tool tool : catalog) {
+            ToolService.setToolAssessmentCategories(categoryDtos, tool.getAssessment().getCategories(), allFields);
+        }
+        return categoryDtos;
+    }
+
+    @Benchmark
+    public void mapAndSerializeToolDtos() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), mapFullToolDtos());
+    }
+}
@@ -0,0 +1,108 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.ToolDto;
+import com.codingassistant.model.AssessmentCategory;
+import com.codingassistant.model.Tool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// One GET /tools page (default and max page size) serialized as JSON, Smile and CBOR, each raw and gzip'd the
+// way server.compression does it. Notes are seed-sized prose in the stored {"note": "{...}"} layout, so the JSON
+// variants pay for escaping them. Bytes on the wire per page are printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final String[] WORDS = {"Cursor", "Copilot", "context", "awareness", "multi-file", "refactoring",
+            "suggestions", "occasionally", "loses", "track", "of", "deeper", "architectural", "dependencies", "and",
+            "the", "it", "is", "while", "for", "developers", "who", "don't", "need", "frequent", "AI-assisted", "coding",
+            "\"agent\"", "mode", "completions", "are", "fast", "but", "quality", "varies", "across", "frameworks"};
+
+    @Param({"100", "500"})
+    private int pageSize;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private List<ToolDto> page;
+    private ObjectMapper objectMapper;
+    private ByteArrayOutputStream buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<Tool> catalog = ScorecardFixtures.catalog(pageSize, 42);
+        SplittableRandom random = new SplittableRandom(7);
+        for (Tool tool : catalog) {
+            for (AssessmentCategory category : tool.getAssessment().getCategories()) {
+                category.setNote(note(category.getName(), random));
+            }
+        }
+        page = new ArrayList<>(catalog.size());
+        for (Tool tool : catalog) {
+            page.add(ToolService.toolDto(tool, EnumSet.allOf(ToolField.class)));
+        }
+        ObjectMapper json = ScorecardFixtures.objectMapper();
+        objectMapper = switch (format) {
+            case "smile" -> json.copyWith(new SmileFactory());
+            case "cbor" -> json.copyWith(new CBORFactory());
+            default -> json;
+        };
+        buffer = new ByteArrayOutputStream(1 << 20);
+        serialize();
+        System.out.printf("%n%s%s, %d tools: %d bytes%n", format, gzip ? "+gzip" : "", pageSize, buffer.size());
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        buffer.reset();
+        if (gzip) {
+            try (OutputStream out = new GZIPOutputStream(buffer, 8192)) {
+                objectMapper.writeValue(out, page);
+            }
+        } else {
+            objectMapper.writeValue(buffer, page);
+        }
+        return buffer.size();
+    }
+
+    // 250-450 characters of prose per category, as in the seeded notes.
+    private static String note(String category, SplittableRandom random) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(250, 450);
+        while (text.length() < length) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        String value = text.toString().trim().replace("\"", "\\\"");
+        return "{\"note\": \"{\\\"" + category.toLowerCase() + "\\\":\\\"" + value + "\\\"}\" }";
+    }
+}
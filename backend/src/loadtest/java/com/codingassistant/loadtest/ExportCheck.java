@@ -0,0 +1,136 @@
+package com.codingassistant.loadtest;
+
+import com.codingassistant.CodingAssistantPerformanceScorecardApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Streams GET /tools/export of a large catalog through an application booted in this JVM, whose heap is capped
+// below the size of the export, so an export that buffered the catalog would fail with OutOfMemoryError instead of
+// passing. Also checks that a second export started while the first is streaming is refused with 503.
+//
+//   mvn -Pload-test compile exec:exec -Dloadtest.main=com.codingassistant.loadtest.ExportCheck -Dloadtest.jvm.args=-Xmx256m -Dloadtest.args="--tools=100000"
+//
+// Arguments this runner does not recognise are passed on to Spring Boot. Exits with status 1 when a check fails.
+public class ExportCheck {
+
+    private final Map<String, String> options = new LinkedHashMap<>();
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    private ExportCheck(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+            if (arg.startsWith("--") && isOption(key)) {
+                options.put(key, separator < 0 ? "true" : arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new ExportCheck(args).run());
+    }
+
+    private static boolean isOption(String key) {
+        return switch (key) {
+            case "tools", "format" -> true;
+            default -> false;
+        };
+    }
+
+    private int run() throws Exception {
+        int requestedTools = options.containsKey("tools") ? Integer.parseInt(options.get("tools")) : 100_000;
+        String format = options.getOrDefault("format", "ndjson");
+        long maxHeap = Runtime.getRuntime().maxMemory();
+
+        try (ScorecardDatabase database = ScorecardDatabase.start()) {
+            long seedStart = System.nanoTime();
+            int toolCount = database.seed(requestedTools);
+            log("Seeded %d tools in %d ms", toolCount, Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+            List<String> args = new ArrayList<>(List.of(
+                    "--spring.datasource.url=" + database.jdbcUrl(),
+                    "--server.port=0",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.codingassistant=WARN",
+                    "--logging.level.org.springframework=WARN",
+                    "--logging.level.org.hibernate=WARN"));
+            args.addAll(applicationArgs);
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodingAssistantPerformanceScorecardApplication.class)
+                    .run(args.toArray(String[]::new))) {
+                URI exportUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                        + context.getEnvironment().getProperty("server.servlet.context-path", "") + "/tools/export?format=" + format);
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .build();
+                HttpRequest request = HttpRequest.newBuilder(exportUri).GET().build();
+
+                long exportStart = System.nanoTime();
+                HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                if (response.statusCode() != 200) {
+                    log("Export answered %d", response.statusCode());
+                    return 1;
+                }
+                try (InputStream body = response.body()) {
+                    byte[] buffer = new byte[65536];
+                    long bytes = 0;
+                    long lines = 0;
+                    boolean secondRefused = false;
+                    int read;
+                    while ((read = body.read(buffer)) >= 0) {
+                        if (bytes == 0) {
+                            // The first export is now streaming and holds the only bulk connection.
+                            HttpResponse<String> second = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            secondRefused = second.statusCode() == 503
+                                    && second.headers().firstValue("Retry-After").isPresent();
+                            log("Concurrent export answered %d %s", second.statusCode(), second.body().strip());
+                        }
+                        bytes += read;
+                        for (int i = 0; i < read; i++) {
+                            if (buffer[i] == '\n') {
+                                lines++;
+                            }
+                        }
+                    }
+                    long records = format.equals("csv") ? lines - 1 : lines;
+                    log("Exported %d records, %.1f MB in %d ms with a %.0f MB heap", records, bytes / 1e6,
+                            Duration.ofNanos(System.nanoTime() - exportStart).toMillis(), maxHeap / 1e6);
+
+                    boolean failed = false;
+                    if (records != toolCount) {
+                        log("FAILED: expected %d records", toolCount);
+                        failed = true;
+                    }
+                    if (bytes <= maxHeap) {
+                        log("FAILED: the export is smaller than the heap, run with a lower -Xmx (-Dloadtest.jvm.args)");
+                        failed = true;
+                    }
+                    if (!secondRefused) {
+                        log("FAILED: a second export ran while the first was streaming");
+                        failed = true;
+                    }
+                    return failed ? 1 : 0;
+                }
+            }
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(Locale.ROOT, "[export-check] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,73 @@
+package com.codingassistant.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+
+// Per-operation latency histograms (nanoseconds) plus error and conflict counts. Each worker owns one and
+// they are merged at the end, so recording never contends.
+class LoadResult {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final EnumMap<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final EnumMap<Operation, Long> errors = new EnumMap<>(Operation.class);
+    private final EnumMap<Operation, Long> conflicts = new EnumMap<>(Operation.class);
+    private long lastCompletionNanos;
+
+    void record(Operation operation, long latencyNanos, int status) {
+        histogram(operation).recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (status == 409 || status == 412) {
+            conflicts.merge(operation, 1L, Long::sum);
+        } else if (status < 200 || status >= 300) {
+            errors.merge(operation, 1L, Long::sum);
+        }
+    }
+
+    // Relative to the start of the measurement window.
+    void completedAt(long nanos) {
+        lastCompletionNanos = Math.max(lastCompletionNanos, nanos);
+    }
+
+    void add(LoadResult other) {
+        lastCompletionNanos = Math.max(lastCompletionNanos, other.lastCompletionNanos);
+        other.histograms.forEach((operation, histogram) -> histogram(operation).add(histogram));
+        other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+        other.conflicts.forEach((operation, count) -> conflicts.merge(operation, count, Long::sum));
+    }
+
+    long getLastCompletionNanos() {
+        return lastCompletionNanos;
+    }
+
+    EnumMap<Operation, Histogram> getHistograms() {
+        return histograms;
+    }
+
+    long getErrors(Operation operation) {
+        return errors.getOrDefault(operation, 0L);
+    }
+
+    long getConflicts(Operation operation) {
+        return conflicts.getOrDefault(operation, 0L);
+    }
+
+    Histogram total() {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        histograms.values().forEach(total::add);
+        return total;
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    long totalConflicts() {
+        return conflicts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private Histogram histogram(Operation operation) {
+        return histograms.computeIfAbsent(operation, key -> new Histogram(HIGHEST_TRACKABLE_NANOS, 3));
+    }
+}
@@ -0,0 +1,192 @@
+package com.codingassistant.loadtest;
+
+import com.codingassistant.CodingAssistantPerformanceScorecardApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Boots the application against an embedded, synthetically scaled PostgreSQL and drives an open-loop
+// request mix at it, recording latency per operation in HdrHistograms.
+//
+//   mvn -Pload-test compile exec:exec -Dloadtest.args="--tools=10000 --rate=200 --duration=60 --slo-p99-ms=250"
+//
+// Arguments this runner does not recognise are passed on to Spring Boot (e.g. --spring.datasource.hikari.maximum-pool-size=10).
+// The process exits with status 1 when an SLO or the error budget is missed, so a release pipeline can gate on it.
+public class LoadTestRunner {
+
+    private final Map<String, String> options = new LinkedHashMap<>();
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    private LoadTestRunner(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+            if (arg.startsWith("--") && isOption(key)) {
+                options.put(key, separator < 0 ? "true" : arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new LoadTestRunner(args).run());
+    }
+
+    private static boolean isOption(String key) {
+        return switch (key) {
+            case "tools", "rate", "connections", "warmup", "duration", "mix", "out",
+                 "slo-p99-ms", "slo-p999-ms", "max-error-rate" -> true;
+            default -> false;
+        };
+    }
+
+    private int run() throws Exception {
+        int requestedTools = intOption("tools", 10_000);
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        int connections = intOption("connections", 16);
+        Duration warmup = Duration.ofSeconds(intOption("warmup", 30));
+        Duration duration = Duration.ofSeconds(intOption("duration", 60));
+        Path out = Path.of(options.getOrDefault("out", "target/loadtest"));
+        TrafficMix mix = TrafficMix.parse(options.get("mix"));
+
+        try (ScorecardDatabase database = ScorecardDatabase.start()) {
+            long seedStart = System.nanoTime();
+            int toolCount = database.seed(requestedTools);
+            log("Seeded %d tools in %d ms", toolCount, Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+            long bootStart = System.nanoTime();
+            List<String> args = new ArrayList<>(List.of(
+                    "--spring.datasource.url=" + database.jdbcUrl(),
+                    "--server.port=0",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.codingassistant=WARN",
+                    "--logging.level.org.springframework=WARN",
+                    "--logging.level.org.hibernate=WARN"));
+            args.addAll(applicationArgs);
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CodingAssistantPerformanceScorecardApplication.class)
+                    .run(args.toArray(String[]::new))) {
+                log("Application started in %d ms", Duration.ofNanos(System.nanoTime() - bootStart).toMillis());
+                URI baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                        + context.getEnvironment().getProperty("server.servlet.context-path", "") + "/");
+
+                log("Driving %.0f req/s over %d connections: %s warm-up, %s measured, mix %s",
+                        rate, connections, warmup, duration, mix);
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+                LoadResult result = drive(client, baseUri, toolCount, mix, rate, connections, warmup, duration);
+                return report(result, rate, duration, out);
+            }
+        }
+    }
+
+    private LoadResult drive(HttpClient client, URI baseUri, int toolCount, TrafficMix mix, double rate, int connections,
+                             Duration warmup, Duration duration) throws InterruptedException {
+        long intervalNanos = (long) (connections * 1_000_000_000L / rate);
+        long start = System.nanoTime() + 100_000_000L;
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        List<LoadWorker> workers = new ArrayList<>(connections);
+        List<Thread> threads = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            // Stagger the workers so the aggregate schedule is evenly spaced rather than bursty.
+            LoadWorker worker = new LoadWorker(client, baseUri, toolCount, mix, 31L * i + 7,
+                    start + i * intervalNanos / connections, intervalNanos, measureFrom, end);
+            workers.add(worker);
+            threads.add(Thread.ofPlatform().name("load-" + i).start(worker));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LoadResult result = new LoadResult();
+        for (LoadWorker worker : workers) {
+            result.add(worker.getResult());
+        }
+        return result;
+    }
+
+    private int report(LoadResult result, double rate, Duration duration, Path out) throws IOException {
+        Files.createDirectories(out);
+        double seconds = duration.toNanos() / 1e9;
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "%-13s %8s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "sched/s", "errors", "conflicts", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        EnumMap<Operation, Histogram> byOperation = result.getHistograms();
+        byOperation.forEach((operation, histogram) -> histograms.put(operation.getLabel(), histogram));
+        histograms.put("all", result.total());
+
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            long errors = entry.getKey().equals("all") ? result.totalErrors() : result.getErrors(Operation.fromLabel(entry.getKey()));
+            long conflicts = entry.getKey().equals("all") ? result.totalConflicts() : result.getConflicts(Operation.fromLabel(entry.getKey()));
+            summary.append(String.format(Locale.ROOT, "%-13s %8d %9.1f %7d %9d %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), histogram.getTotalCount(), histogram.getTotalCount() / seconds, errors, conflicts,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue())));
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(out.resolve(entry.getKey() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(hgrm, 1_000_000.0);
+            }
+        }
+
+        Histogram total = result.total();
+        // Completed requests over the time it actually took to complete them; falls below the target when the
+        // server cannot keep up and the schedule overruns the measurement window.
+        double achieved = total.getTotalCount() / Math.max(seconds, result.getLastCompletionNanos() / 1e9);
+        summary.append(String.format(Locale.ROOT, "%ntarget %.1f req/s, achieved %.1f req/s%n", rate, achieved));
+        boolean failed = checkSlo(summary, "p99", options.get("slo-p99-ms"), total.getValueAtPercentile(99));
+        failed |= checkSlo(summary, "p99.9", options.get("slo-p999-ms"), total.getValueAtPercentile(99.9));
+        double maxErrorRate = Double.parseDouble(options.getOrDefault("max-error-rate", "0.01"));
+        double errorRate = total.getTotalCount() == 0 ? 1 : (double) result.totalErrors() / total.getTotalCount();
+        boolean errorBudgetMissed = errorRate > maxErrorRate;
+        summary.append(String.format(Locale.ROOT, "error rate %.4f (max %.4f) %s%n", errorRate, maxErrorRate,
+                errorBudgetMissed ? "FAILED" : "ok"));
+        failed |= errorBudgetMissed;
+
+        Files.writeString(out.resolve("summary.txt"), summary);
+        System.out.print(summary);
+        log("HdrHistogram percentile distributions (ms) written to %s", out.toAbsolutePath());
+        return failed ? 1 : 0;
+    }
+
+    private static boolean checkSlo(StringBuilder summary, String percentile, String limitMillis, long valueNanos) {
+        if (limitMillis == null) {
+            return false;
+        }
+        boolean missed = millis(valueNanos) > Double.parseDouble(limitMillis);
+        summary.append(String.format(Locale.ROOT, "%s %.2f ms (SLO %s ms) %s%n", percentile, millis(valueNanos),
+                limitMillis, missed ? "FAILED" : "ok"));
+        return missed;
+    }
+
+    private int intOption(String key, int defaultValue) {
+        return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(Locale.ROOT, "[loadtest] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,73 @@
+package com.codingassistant.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+// One connection's worth of open-loop load. Each request has an intended start time on a fixed schedule and
+// latency is measured from that time, not from when the request was actually sent, so a stalled server is
+// charged for the requests that queued up behind it (no coordinated omission).
+class LoadWorker implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final int toolCount;
+    private final TrafficMix mix;
+    private final SplittableRandom random;
+    private final long start;
+    private final long intervalNanos;
+    private final long measureFrom;
+    private final long end;
+    private final LoadResult result = new LoadResult();
+
+    LoadWorker(HttpClient client, URI baseUri, int toolCount, TrafficMix mix, long seed,
+               long start, long intervalNanos, long measureFrom, long end) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.toolCount = toolCount;
+        this.mix = mix;
+        this.random = new SplittableRandom(seed);
+        this.start = start;
+        this.intervalNanos = intervalNanos;
+        this.measureFrom = measureFrom;
+        this.end = end;
+    }
+
+    @Override
+    public void run() {
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            Operation operation = mix.next(random);
+            int status;
+            try {
+                HttpResponse<Void> response = client.send(
+                        operation.request(baseUri, toolCount, random).timeout(REQUEST_TIMEOUT).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                status = response.statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (intended >= measureFrom) {
+                long completed = System.nanoTime();
+                result.record(operation, completed - intended, status);
+                result.completedAt(completed - measureFrom);
+            }
+        }
+    }
+
+    LoadResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+package com.codingassistant.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+
+// The request mix a dashboard plus a few reviewers generate. Weights are relative and can be overridden
+// with --mix=list:30,get:40,performances:20,update:10.
+enum Operation {
+    LIST("list", 30) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, int toolCount, SplittableRandom random) {
+            return HttpRequest.newBuilder(baseUri.resolve("tools?fields=assessment&limit=100")).GET();
+        }
+    },
+    GET("get", 40) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, int toolCount, SplittableRandom random) {
+            return HttpRequest.newBuilder(baseUri.resolve("tools/" + randomToolId(toolCount, random))).GET();
+        }
+    },
+    PERFORMANCES("performances", 20) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, int toolCount, SplittableRandom random) {
+            return HttpRequest.newBuilder(baseUri.resolve("tools/performances?limit=50")).GET();
+        }
+    },
+    UPDATE("update", 10) {
+        @Override
+        HttpRequest.Builder request(URI baseUri, int toolCount, SplittableRandom random) {
+            return HttpRequest.newBuilder(baseUri.resolve("tools/" + randomToolId(toolCount, random)))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(scoresAndNotes(random)));
+        }
+    };
+
+    private final String label;
+    private final int defaultWeight;
+
+    Operation(String label, int defaultWeight) {
+        this.label = label;
+        this.defaultWeight = defaultWeight;
+    }
+
+    abstract HttpRequest.Builder request(URI baseUri, int toolCount, SplittableRandom random);
+
+    String getLabel() {
+        return label;
+    }
+
+    int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    static Operation fromLabel(String label) {
+        for (Operation operation : values()) {
+            if (operation.label.equalsIgnoreCase(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + label + "'");
+    }
+
+    private static int randomToolId(int toolCount, SplittableRandom random) {
+        return 1 + random.nextInt(toolCount);
+    }
+
+    private static String scoresAndNotes(SplittableRandom random) {
+        return "{\"scores\":{"
+                + "\"acceleration\":{\"capabilities\":" + score(random) + ",\"iterationSize\":" + score(random)
+                + ",\"iterationSpeed\":" + score(random) + "},"
+                + "\"intelligence\":{\"autonomy\":" + score(random) + ",\"outputQuality\":" + score(random)
+                + ",\"contextAwareness\":" + score(random) + "},"
+                + "\"experience\":{\"easeOfUse\":" + score(random) + ",\"flexibility\":" + score(random)
+                + ",\"reliability\":" + score(random) + "},"
+                + "\"value\":{\"value\":" + score(random) + "}},"
+                + "\"notes\":{"
+                + "\"acceleration\":{\"capabilities\":\"Load test\",\"iterationSize\":\"Load test\",\"iterationSpeed\":\"Load test\"},"
+                + "\"intelligence\":{\"autonomy\":\"Load test\",\"outputQuality\":\"Load test\",\"contextAwareness\":\"Load test\"},"
+                + "\"experience\":{\"easeOfUse\":\"Load test\",\"flexibility\":\"Load test\",\"reliability\":\"Load test\"},"
+                + "\"value\":{\"value\":\"Load test\"}}}";
+    }
+
+    private static int score(SplittableRandom random) {
+        return 1 + random.nextInt(10);
+    }
+}
@@ -0,0 +1,136 @@
+package com.codingassistant.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Embedded PostgreSQL (zonky binaries, resolved from the local Maven repository, so no Docker and no network)
+// loaded with init-scripts and then scaled up by cloning the seeded tools.
+class ScorecardDatabase implements AutoCloseable {
+
+    private static final String DATABASE = "coding_assistant";
+    private static final String[] SCRIPTS = {
+            "init-scripts/01-schema.sql",
+            "init-scripts/tools_202501301730.sql",
+            "init-scripts/assessments_202501301730.sql",
+            "init-scripts/assessment_scores_202501301730.sql",
+            "init-scripts/assessment_categories_202501301730.sql"
+    };
+
+    private final EmbeddedPostgres postgres;
+
+    private ScorecardDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    static ScorecardDatabase start() throws IOException, SQLException {
+        ScorecardDatabase database = new ScorecardDatabase(EmbeddedPostgres.builder().start());
+        try (Connection connection = database.postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + DATABASE);
+        }
+        return database;
+    }
+
+    String jdbcUrl() {
+        return postgres.getJdbcUrl("postgres", DATABASE);
+    }
+
+    // Returns the number of tools in the catalog afterwards.
+    int seed(int toolCount) throws IOException, SQLException {
+        try (Connection connection = postgres.getDatabase("postgres", DATABASE).getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                for (String script : SCRIPTS) {
+                    statement.execute(readScript(script));
+                }
+            }
+            int templates = count(connection, "SELECT count(*) FROM public.tools");
+            if (toolCount > templates) {
+                scaleUp(connection, templates, toolCount - templates);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+            return count(connection, "SELECT count(*) FROM public.tools");
+        }
+    }
+
+    private void scaleUp(Connection connection, int templates, int clones) throws SQLException {
+        // Clone i copies seeded tool 1 + (i - 1) % templates, so every clone has a score row and the
+        // same four categories (with full-size notes) as a real assessment. Ids are given explicitly, since
+        // the sequences hand out blocks of 50, and stay contiguous: tool ids 1..toolCount, with assessment
+        // and score ids equal to their tool's.
+        execute(connection, """
+                INSERT INTO public.tools (id, "name", score, status, description, last_assessment, category)
+                SELECT ? + g, t."name" || ' #' || g, t.score, t.status, t.description, t.last_assessment + (g % 365), t.category
+                FROM generate_series(1, ?) g
+                JOIN public.tools t ON t.id = 1 + (g - 1) % ?
+                ORDER BY g
+                """, templates, clones, templates);
+        execute(connection, """
+                INSERT INTO public.assessments (id, tool_id)
+                SELECT t.id, t.id FROM public.tools t WHERE t.id > ? ORDER BY t.id
+                """, templates);
+        execute(connection, """
+                INSERT INTO public.assessment_scores (id, assessment_id, total, intelligence, acceleration, experience, value)
+                SELECT a.id, a.id, s.total, s.intelligence, s.acceleration, s.experience, s.value
+                FROM public.assessments a
+                JOIN public.assessments template ON template.tool_id = 1 + (a.tool_id - 1) % ?
+                JOIN public.assessment_scores s ON s.assessment_id = template.id
+                WHERE a.tool_id > ?
+                ORDER BY a.id
+                """, templates, templates);
+        execute(connection, """
+                INSERT INTO public.assessment_categories (id, assessment_id, "name", score, note)
+                SELECT (SELECT max(id) FROM public.assessment_categories) + row_number() OVER (ORDER BY a.id, c.id),
+                       a.id, c."name", c.score, c.note
+                FROM public.assessments a
+                JOIN public.assessments template ON template.tool_id = 1 + (a.tool_id - 1) % ?
+                JOIN public.assessment_categories c ON c.assessment_id = template.id
+                WHERE a.tool_id > ?
+                ORDER BY a.id, c.id
+                """, templates, templates);
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[]{"tools", "assessments", "assessment_scores", "assessment_categories"}) {
+                statement.execute("SELECT setval('public." + table + "_id_seq', (SELECT max(id) + 1 FROM public." + table + "), false)");
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql, int... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setInt(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private static int count(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             var resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static String readScript(String path) throws IOException {
+        try (InputStream inputStream = ScorecardDatabase.class.getClassLoader().getResourceAsStream(path)) {
+            if (inputStream == null) {
+                throw new IOException("Missing seed script " + path);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
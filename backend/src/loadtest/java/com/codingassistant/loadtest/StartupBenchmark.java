@@ -0,0 +1,187 @@
+package com.codingassistant.loadtest;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Cold-start time of the packaged application, from process launch to the first successful
+// GET /tools/performances, once as a plain jar and once as the fast-startup build (AOT + AppCDS archive).
+// Every run is a fresh JVM against the same embedded, seeded PostgreSQL.
+//
+//   mvn -Pfast-startup package
+//   mvn -Pload-test compile exec:exec -Dloadtest.main=com.codingassistant.loadtest.StartupBenchmark -Dloadtest.args="--runs=5"
+//
+// Arguments this runner does not recognise are passed on to the application.
+public class StartupBenchmark {
+
+    private static final String JAR = "performance-scorecard-1.0.0.jar";
+
+    private final Map<String, String> options = new LinkedHashMap<>();
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    private StartupBenchmark(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+            if (arg.startsWith("--") && isOption(key)) {
+                options.put(key, separator < 0 ? "true" : arg.substring(separator + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.exit(new StartupBenchmark(args).run());
+    }
+
+    private static boolean isOption(String key) {
+        return switch (key) {
+            case "tools", "runs", "timeout", "target", "java", "path", "out" -> true;
+            default -> false;
+        };
+    }
+
+    private int run() throws Exception {
+        int requestedTools = intOption("tools", 1_000);
+        int runs = intOption("runs", 5);
+        Duration timeout = Duration.ofSeconds(intOption("timeout", 180));
+        Path target = Path.of(options.getOrDefault("target", "target"));
+        String java = options.getOrDefault("java", Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        String path = options.getOrDefault("path", "/api/v1/tools/performances");
+        Path out = Path.of(options.getOrDefault("out", "target/startup"));
+        Files.createDirectories(out);
+
+        if (!Files.exists(target.resolve(JAR))) {
+            log("Missing %s, run mvn package first", target.resolve(JAR));
+            return 1;
+        }
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("jar", List.of("-jar", target.resolve(JAR).toString()));
+        Path fastStartup = target.resolve("fast-startup");
+        if (Files.exists(fastStartup.resolve("application.jsa"))) {
+            modes.put("fast-startup", List.of("-XX:SharedArchiveFile=" + fastStartup.resolve("application.jsa"),
+                    "-Dspring.aot.enabled=true", "-jar", fastStartup.resolve(JAR).toString()));
+        } else {
+            log("No CDS archive in %s, measuring the plain jar only (build it with mvn -Pfast-startup package)", fastStartup);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        Map<String, long[]> results = new LinkedHashMap<>();
+        try (ScorecardDatabase database = ScorecardDatabase.start()) {
+            int toolCount = database.seed(requestedTools);
+            log("Seeded %d tools", toolCount);
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                long[] millis = new long[runs];
+                for (int i = 0; i < runs; i++) {
+                    millis[i] = startOnce(client, java, mode.getValue(), database.jdbcUrl(), path, timeout,
+                            out.resolve(mode.getKey() + "-" + (i + 1) + ".log"));
+                    log("%s run %d: %d ms", mode.getKey(), i + 1, millis[i]);
+                }
+                results.put(mode.getKey(), millis);
+            }
+        }
+        return report(results, out);
+    }
+
+    // Launch to first 200, polling every 10 ms; the JVM is stopped again before the next run.
+    private long startOnce(HttpClient client, String java, List<String> launch, String jdbcUrl, String path,
+                           Duration timeout, Path log) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(launch);
+        command.addAll(List.of(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--server.port=" + port,
+                "--logging.level.root=WARN",
+                "--logging.level.com.codingassistant=WARN"));
+        command.addAll(applicationArgs);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (ConnectException | HttpTimeoutException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No successful " + path + " within " + timeout + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private int report(Map<String, long[]> results, Path out) throws IOException {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "%-13s %5s %9s %9s %9s%n", "mode", "runs", "min ms", "median ms", "max ms"));
+        Map<String, Long> medians = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> entry : results.entrySet()) {
+            long[] millis = entry.getValue().clone();
+            Arrays.sort(millis);
+            medians.put(entry.getKey(), median(millis));
+            summary.append(String.format(Locale.ROOT, "%-13s %5d %9d %9d %9d%n",
+                    entry.getKey(), millis.length, millis[0], median(millis), millis[millis.length - 1]));
+        }
+        if (medians.containsKey("fast-startup")) {
+            summary.append(String.format(Locale.ROOT, "%nfast-startup reaches the first response %.2fx sooner (median)%n",
+                    (double) medians.get("jar") / medians.get("fast-startup")));
+        }
+        Files.writeString(out.resolve("summary.txt"), summary);
+        System.out.print(summary);
+        log("Application logs and summary written to %s", out.toAbsolutePath());
+        return 0;
+    }
+
+    private static long median(long[] sorted) {
+        return sorted[sorted.length / 2];
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private int intOption(String key, int defaultValue) {
+        return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf(Locale.ROOT, "[startup] " + format + "%n", args);
+    }
+}
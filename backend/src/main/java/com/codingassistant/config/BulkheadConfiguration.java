@@ -0,0 +1,33 @@
+package com.codingassistant.config;
+
+import com.codingassistant.service.DatabaseAccess;
+import com.codingassistant.service.DatabaseBulkhead;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class BulkheadConfiguration {
+
+    // Ordered inside the cache advice (HIGHEST_PRECEDENCE, so cache hits never take a permit) and outside the
+    // transaction advice (LOWEST_PRECEDENCE, so a permit is held before a connection is borrowed).
+    public static final int BULKHEAD_ORDER = Ordered.HIGHEST_PRECEDENCE + 1;
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor databaseBulkheadAdvisor(ObjectProvider<DatabaseBulkhead> databaseBulkhead) {
+        // Resolved lazily so that creating the advisor does not pull the meter registry in ahead of its post-processors.
+        MethodInterceptor interceptor = invocation -> databaseBulkhead.getObject().invoke(invocation);
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(null, DatabaseAccess.class, true), interceptor);
+        advisor.setOrder(BULKHEAD_ORDER);
+        return advisor;
+    }
+}
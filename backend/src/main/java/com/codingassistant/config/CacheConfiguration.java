@@ -0,0 +1,30 @@
+package com.codingassistant.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfiguration {
+
+    public static final String TOOLS_CACHE = "tools";
+    public static final String TOOL_CACHE = "tool";
+
+    // Cache advice runs outside the transaction so hits never borrow a connection,
+    // and evictions are deferred until the surrounding write transaction commits.
+    @Bean
+    public CacheManager cacheManager(@Value("${scorecard.cache.spec}") String cacheSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheSpec);
+        cacheManager.setCacheNames(List.of(TOOLS_CACHE, TOOL_CACHE));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,48 @@
+package com.codingassistant.config;
+
+import com.codingassistant.metrics.TimedCborHttpMessageConverter;
+import com.codingassistant.metrics.TimedSmileHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Smile ({@code application/x-jackson-smile}) and CBOR ({@code application/cbor}) next to JSON, chosen by the
+ * request's Accept header. The mappers come from Boot's builder, so they share the spring.jackson settings of the JSON
+ * one; JSON stays first and is what {@code *}{@code /*} or a missing Accept gets.
+ */
+@Configuration
+public class ContentNegotiationConfiguration {
+
+    // Replaces the default Smile converter, whose mapper would not see the spring.jackson settings.
+    @Bean
+    public TimedSmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder,
+                                                                    MeterRegistry meterRegistry) {
+        return new TimedSmileHttpMessageConverter(builder.factory(new SmileFactory()).build(), meterRegistry);
+    }
+
+    @Bean
+    public TimedCborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder,
+                                                                  MeterRegistry meterRegistry) {
+        return new TimedCborHttpMessageConverter(builder.factory(new CBORFactory()).build(), meterRegistry);
+    }
+
+    // Responses differ by Accept, so shared caches must key on it. The ETags are weak: one tag covers the JSON, Smile
+    // and CBOR bodies of the same data, which are equivalent but not byte-identical.
+    @Bean
+    public FilterRegistrationBean<Filter> varyByAcceptFilter() {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            ((HttpServletResponse) response).addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            chain.doFilter(request, response);
+        });
+        registration.addUrlPatterns("/tools", "/tools/*");
+        return registration;
+    }
+}
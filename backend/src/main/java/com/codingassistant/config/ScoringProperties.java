@@ -0,0 +1,37 @@
+package com.codingassistant.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Weighting profiles under {@code scorecard.scoring}. Each profile maps sub-score keys (as in
+ * {@code SubScoreDimension}, e.g. {@code capabilities}) to weights; sub-scores a profile leaves out weigh 1.
+ */
+@ConfigurationProperties(prefix = "scorecard.scoring")
+public class ScoringProperties {
+
+    public static final String DEFAULT_PROFILE = "default";
+
+    // The profile used when assessments are written.
+    private String activeProfile = DEFAULT_PROFILE;
+
+    private Map<String, Map<String, Double>> profiles = new LinkedHashMap<>();
+
+    public String getActiveProfile() {
+        return activeProfile;
+    }
+
+    public void setActiveProfile(String activeProfile) {
+        this.activeProfile = activeProfile;
+    }
+
+    public Map<String, Map<String, Double>> getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(Map<String, Map<String, Double>> profiles) {
+        this.profiles = profiles;
+    }
+}
@@ -0,0 +1,55 @@
+package com.codingassistant.controller;
+
+import com.codingassistant.dto.RescoreJobDTO;
+import com.codingassistant.service.BulkheadFullException;
+import com.codingassistant.service.RescoreJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+// Jobs run in the background; clients poll GET /{jobId} for progress or wait for the resync event on /tools/events.
+@RestController
+@CrossOrigin(origins = "*")
+@RequestMapping("/tools/rescore-jobs")
+public class RescoreJobController {
+
+    private final RescoreJobService rescoreJobService;
+
+    public RescoreJobController(@Autowired final RescoreJobService rescoreJobService) {
+        this.rescoreJobService = rescoreJobService;
+    }
+
+    @PostMapping
+    public ResponseEntity<RescoreJobDTO> startJob() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(rescoreJobService.start());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<RescoreJobDTO> getJob(@PathVariable long jobId) {
+        return ResponseEntity.ok(rescoreJobService.get(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Rescore job not found")));
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<RescoreJobDTO> resumeJob(@PathVariable long jobId) {
+        if (rescoreJobService.get(jobId).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Rescore job not found");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(rescoreJobService.resume(jobId));
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleConflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<String> handleBulkheadFull(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(e.getMessage());
+    }
+}
@@ -1,131 +1,339 @@
 package com.codingassistant.controller;
 
 import com.codingassistant.dto.*;
-import com.codingassistant.model.Assessment;
-import com.codingassistant.model.AssessmentCategory;
-import com.codingassistant.model.Tool;
+import com.codingassistant.service.AssessmentService;
+import com.codingassistant.service.BulkheadFullException;
+import com.codingassistant.service.ExportFormat;
+import com.codingassistant.service.LeaderboardSortKey;
+import com.codingassistant.service.ScoreEventBroadcaster;
+import com.codingassistant.service.SubScoreDimension;
+import com.codingassistant.service.ToolExportService;
+import com.codingassistant.service.ToolField;
+import com.codingassistant.service.ToolImportException;
+import com.codingassistant.service.ToolImportService;
+import com.codingassistant.service.ToolQuery;
 import com.codingassistant.service.ToolService;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 
 @RestController
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {ToolController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED})
 @RequestMapping("/tools")
 public class ToolController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private static final Logger logger = LoggerFactory.getLogger(ToolController.class);
-    private static final String CATEGORY_SCORE_FORMAT = "{\"score\": %s }";
-    private static final String CATEGORY_NOTE_FORMAT = "{\"note\": \"%s\" }";
     private final ToolService toolService;
-    private final ObjectMapper objectMapper;
+    private final ToolExportService toolExportService;
+    private final ToolImportService toolImportService;
+    private final AssessmentService assessmentService;
+    private final ScoreEventBroadcaster scoreEventBroadcaster;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxBatchSize;
 
-    public ToolController(@Autowired final ToolService toolService) {
+    public ToolController(@Autowired final ToolService toolService,
+                          @Autowired final ToolExportService toolExportService,
+                          @Autowired final ToolImportService toolImportService,
+                          @Autowired final AssessmentService assessmentService,
+                          @Autowired final ScoreEventBroadcaster scoreEventBroadcaster,
+                          @Value("${scorecard.tools.default-page-size}") final int defaultPageSize,
+                          @Value("${scorecard.tools.max-page-size}") final int maxPageSize,
+                          @Value("${scorecard.tools.max-batch-size}") final int maxBatchSize) {
         this.toolService = toolService;
-        this.objectMapper = new ObjectMapper();
+        this.toolExportService = toolExportService;
+        this.toolImportService = toolImportService;
+        this.assessmentService = assessmentService;
+        this.scoreEventBroadcaster = scoreEventBroadcaster;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @GetMapping
-    public ResponseEntity<List<ToolDto>> getAllTools() {
-        return ResponseEntity.ok(toolService.getAllTools());
+    public ResponseEntity<List<ToolDto>> getAllTools(
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        if (limit != null && (limit < 1 || limit > maxPageSize)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxPageSize);
+        }
+        Set<ToolField> toolFields;
+        try {
+            toolFields = ToolField.fromParameter(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        ToolQuery query = new ToolQuery(afterId, limit == null ? defaultPageSize : limit, status, category, toolFields);
+        ToolPageDTO page = toolService.getTools(query);
+        if (page.getLastModified() != null && checkNotModified(webRequest, page.getLastModified(), "tools",
+                query.getAfterId(), query.getLimit(), query.getStatus(), query.getCategory(), query.getFields())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getTools());
     }
 
     @GetMapping("/performances")
-    public ResponseEntity<List<PerformanceDTO>> getToolsPerformance() {
-        return ResponseEntity.ok(toolService.getPerformances());
+    public ResponseEntity<List<PerformanceDTO>> getToolsPerformance(
+            @RequestParam(defaultValue = "total") String sortBy,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String profile,
+            @RequestParam(required = false) Instant asOf,
+            WebRequest webRequest) {
+        LeaderboardSortKey sortKey;
+        try {
+            sortKey = LeaderboardSortKey.fromParameter(sortBy);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (limit != null && limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive");
+        }
+        if (asOf != null && profile != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "asOf cannot be combined with profile");
+        }
+        LeaderboardDTO leaderboard;
+        try {
+            int maxResults = limit == null ? Integer.MAX_VALUE : limit;
+            leaderboard = asOf != null
+                    ? toolService.getPerformancesAsOf(asOf, sortKey, maxResults)
+                    : toolService.getPerformances(sortKey, maxResults, profile);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (leaderboard.getLastModified() != null && checkNotModified(webRequest, leaderboard.getLastModified(),
+                "performances", sortKey, limit, profile, asOf)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(leaderboard.getPerformances());
+    }
+
+    @GetMapping("/scoring-profiles")
+    public ResponseEntity<List<ScoringProfileDTO>> getScoringProfiles() {
+        return ResponseEntity.ok(toolService.getScoringProfiles());
+    }
+
+    @GetMapping("/rankings")
+    public ResponseEntity<List<SubScoreRankDTO>> getSubScoreRanking(
+            @RequestParam String dimension,
+            @RequestParam(required = false) Integer minScore,
+            @RequestParam(required = false) Integer limit) {
+        SubScoreDimension subScoreDimension;
+        try {
+            subScoreDimension = SubScoreDimension.fromParameter(dimension);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (limit != null && (limit < 1 || limit > maxPageSize)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxPageSize);
+        }
+        return ResponseEntity.ok(toolService.getSubScoreRanking(subScoreDimension, minScore,
+                limit == null ? defaultPageSize : limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ToolSearchResultDTO>> searchTools(
+            @RequestParam String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "q must not be blank");
+        }
+        if (limit != null && (limit < 1 || limit > maxPageSize)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxPageSize);
+        }
+        return ResponseEntity.ok(toolService.searchTools(q, category, limit == null ? defaultPageSize : limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTools(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        StreamingResponseBody body = outputStream -> toolExportService.export(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"scorecard." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    // Takes what GET /tools/export produces: rows with the id of an existing tool update it, all others are added.
+    // The whole body is imported in one transaction, or not at all. A form-encoded body would be consumed as
+    // request parameters before it could be read, hence the explicit media types.
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ToolImportResultDTO> importTools(@RequestParam(defaultValue = "ndjson") String format,
+                                                           InputStream body) throws IOException {
+        ExportFormat importFormat;
+        try {
+            importFormat = ExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.ok(toolImportService.importTools(importFormat, body));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScoreEvents() {
+        return scoreEventBroadcaster.subscribe();
     }
 
+    // The validator is the version of the cached tool, so a warm conditional GET does not reach the database.
     @GetMapping("/{id}")
-    public ResponseEntity<ToolDto> getToolById(@PathVariable Long id) {
-        return ResponseEntity.ok(toolService.getToolDtoById(id));
+    public ResponseEntity<ToolDto> getToolById(@PathVariable Long id, WebRequest webRequest) {
+        ToolDto tool = toolService.getToolDtoById(id);
+        if (webRequest.checkNotModified(versionETag(tool.getAssessment().getVersion()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(tool);
+    }
+
+    // from/to are ISO-8601 instants; to defaults to now. Long ranges come back downsampled (scorecard.history.max-points).
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<AssessmentSnapshotDTO>> getToolHistory(@PathVariable Long id,
+                                                                      @RequestParam(required = false) Instant from,
+                                                                      @RequestParam(required = false) Instant to) {
+        try {
+            return ResponseEntity.ok(toolService.getHistory(id, from, to == null ? Instant.now() : to));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
+    @PutMapping("/batch")
+    public ResponseEntity<List<ToolUpdateResultDTO>> updateTools(@RequestBody List<ToolAssessmentUpdateDTO> updates) throws JsonProcessingException {
+        if (updates.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxBatchSize + " tools per batch");
+        }
+        return ResponseEntity.ok(toolService.updateTools(updates));
+    }
+
+    // If-Match carries the ETag from GET /tools/{id}, or its strong form "v<n>". A stale tag is rejected with 412 up front; a writer
+    // that commits between that check and our flush is caught by the @Version check and answered with 409.
+    // The response lists the fields that changed; an UNCHANGED update wrote nothing and keeps the ETag.
     @PutMapping("/{id}")
-    public ResponseEntity<String> updateTool(@PathVariable Long id, @RequestBody AssessmentScoresAndNotesDTO assessmentScoresAndNotesDTO) throws JsonProcessingException {
-        AssessmentScoreDTO assessmentScoreDTO = assessmentScoresAndNotesDTO.getScores();
-        AssessmentNoteDTO assessmentNoteDTO = assessmentScoresAndNotesDTO.getNotes();
-        Tool tool = toolService.getToolById(id);
-        updateScores(assessmentScoreDTO, tool.getAssessment());
-        updateNotes(assessmentNoteDTO, tool.getAssessment());
-        toolService.saveTool(tool);
-        return ResponseEntity.ok("SUCCESSFULLY UPDATED");
-    }
-
-    private void updateScores(AssessmentScoreDTO assessmentScoreDTO, Assessment assessment) throws JsonProcessingException {
-        int totalScore = updateAccelerationScore(assessmentScoreDTO.getAcceleration(), assessment) +
-                updateIntelligenceScore(assessmentScoreDTO.getIntelligence(), assessment)  +
-                updateExperienceScore(assessmentScoreDTO.getExperience(), assessment) +
-                updateValueScore(assessmentScoreDTO.getValue(), assessment);
-        assessment.getAssessmentScore().setTotal(totalScore);
-    }
-
-    private void updateNotes(AssessmentNoteDTO assessmentNoteDTO, Assessment assessment) throws JsonProcessingException {
-        getCategoryByName("Acceleration", assessment.getCategories())
-                .setNote(String.format(CATEGORY_NOTE_FORMAT,
-                        objectMapper.writeValueAsString(assessmentNoteDTO.getAcceleration())));
-        getCategoryByName("Intelligence", assessment.getCategories())
-                .setNote(String.format(CATEGORY_NOTE_FORMAT,
-                        objectMapper.writeValueAsString(assessmentNoteDTO.getIntelligence())));
-        getCategoryByName("Experience", assessment.getCategories())
-                .setNote(String.format(CATEGORY_NOTE_FORMAT,
-                        objectMapper.writeValueAsString(assessmentNoteDTO.getExperience())));
-        getCategoryByName("Value", assessment.getCategories())
-                .setNote(String.format(CATEGORY_NOTE_FORMAT,
-                        objectMapper.writeValueAsString(assessmentNoteDTO.getValue())));
-    }
-
-    private int updateAccelerationScore(AccelerationScoreDTO accelerationScoreDTO, Assessment assessment) throws JsonProcessingException {
-        int iterationSize = accelerationScoreDTO.getIterationSize();
-        int iterationSpeed = accelerationScoreDTO.getIterationSpeed();
-        int capabilities = accelerationScoreDTO.getCapabilities();
-        int accelerationScore = iterationSize + iterationSpeed + capabilities;
-        assessment.getAssessmentScore().setAcceleration(accelerationScore);
-        AssessmentCategory category = getCategoryByName("Acceleration", assessment.getCategories());
-        category.setScore(String.format(CATEGORY_SCORE_FORMAT, objectMapper.writeValueAsString(accelerationScoreDTO)));
-        return accelerationScore;
-    }
-
-    private int updateIntelligenceScore(IntelligenceScoreDTO intelligenceScoreDTO, Assessment assessment) throws JsonProcessingException {
-        int contextAwareness = intelligenceScoreDTO.getContextAwareness();
-        int outputQuality = intelligenceScoreDTO.getOutputQuality();
-        int autonomy = intelligenceScoreDTO.getAutonomy();
-        int intelligenceScore = contextAwareness + outputQuality + autonomy;
-        assessment.getAssessmentScore().setIntelligence(intelligenceScore);
-        AssessmentCategory category = getCategoryByName("Intelligence", assessment.getCategories());
-        category.setScore(String.format(CATEGORY_SCORE_FORMAT, objectMapper.writeValueAsString(intelligenceScoreDTO)));
-        return intelligenceScore;
-    }
-
-    private int updateExperienceScore(ExperienceScoreDTO experienceScoreDTO, Assessment assessment) throws JsonProcessingException {
-        int easeOfUse = experienceScoreDTO.getEaseOfUse();
-        int flexibility = experienceScoreDTO.getFlexibility();
-        int reliability = experienceScoreDTO.getReliability();
-        int experienceScore = easeOfUse + flexibility + reliability;
-        assessment.getAssessmentScore().setExperience(experienceScore);
-        AssessmentCategory category = getCategoryByName("Experience", assessment.getCategories());
-        category.setScore(String.format(CATEGORY_SCORE_FORMAT, objectMapper.writeValueAsString(experienceScoreDTO)));
-        return experienceScore;
-    }
-
-    private int updateValueScore(ValueScoreDTO valueScoreDTO, Assessment assessment) throws JsonProcessingException {
-        int valueScore = valueScoreDTO.getValue();
-        assessment.getAssessmentScore().setValue(valueScore);
-        AssessmentCategory category = getCategoryByName("Value", assessment.getCategories());
-        category.setScore(String.format(CATEGORY_SCORE_FORMAT, objectMapper.writeValueAsString(valueScoreDTO)));
-        return valueScore;
-    }
-
-    private AssessmentCategory getCategoryByName(String categoryName, List<AssessmentCategory> assessmentCategories) {
-        return assessmentCategories.stream()
-                .filter(c -> c.getName().equals(categoryName))
-                .findFirst()
-                .orElse(new AssessmentCategory());
+    public ResponseEntity<ToolUpdateResultDTO> updateTool(@PathVariable Long id,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                             @RequestBody AssessmentScoresAndNotesDTO assessmentScoresAndNotesDTO) throws JsonProcessingException {
+        Long expectedVersion = null;
+        if (ifMatch != null && !ifMatch.trim().equals("*")) {
+            AssessmentVersionDTO current = toolService.getAssessmentVersion(id)
+                    .orElseThrow(() -> new RuntimeException("Tool not found"));
+            if (!matchesVersion(ifMatch, current.getVersion())) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                        "Tool has been modified, current version is " + current.getVersion());
+            }
+            expectedVersion = current.getVersion();
+        }
+        ToolUpdateResultDTO result = toolService.updateTool(id, assessmentScoresAndNotesDTO, expectedVersion);
+        return ResponseEntity.ok()
+                .eTag(versionETag(result.getVersion()))
+                .body(result);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<String> handleBulkheadFull(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleConcurrentUpdate(ObjectOptimisticLockingFailureException e) {
+        logger.info("Rejected concurrent assessment update: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Tool was modified concurrently, reload and retry");
+    }
+
+    @ExceptionHandler(ToolImportException.class)
+    public ResponseEntity<String> handleImportRejected(ToolImportException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+
+    // The ETag is derived from the assessments.updated_at watermark that the cached page or leaderboard snapshot was
+    // built at, plus the request's own parameters, so the validator always belongs to the body it stands for and a
+    // warm conditional GET costs neither a query nor serialization. It is weak because Tomcat never compresses a
+    // response carrying a strong ETag.
+    private boolean checkNotModified(WebRequest webRequest, LocalDateTime lastModified, Object... discriminators) {
+        Instant lastModifiedInstant = lastModified.atZone(ZoneId.systemDefault()).toInstant();
+        long watermark = ChronoUnit.MICROS.between(Instant.EPOCH, lastModifiedInstant);
+        String eTag = "W/\"" + Long.toHexString(watermark) + "-" + Integer.toHexString(canonical(discriminators).hashCode()) + "\"";
+        return webRequest.checkNotModified(eTag, lastModifiedInstant.toEpochMilli());
+    }
+
+    // Enum names and parameter text only: String.hashCode is fixed by the language, so every replica and every
+    // restart derives the same tag, which identity-based hashes of enums would not.
+    private static String canonical(Object[] discriminators) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object discriminator : discriminators) {
+            if (discriminator instanceof Enum<?> constant) {
+                canonical.append(constant.name());
+            } else if (discriminator instanceof Collection<?> values) {
+                for (Object value : values) {
+                    canonical.append(value instanceof Enum<?> constant ? constant.name() : value).append(',');
+                }
+            } else {
+                canonical.append(discriminator);
+            }
+            canonical.append('|');
+        }
+        return canonical.toString();
+    }
+
+    // Weak for the same reason as the list tags, and because JSON, Smile and CBOR bodies of one version share it.
+    private static String versionETag(long version) {
+        return "W/\"v" + version + "\"";
+    }
+
+    // The tag names an assessment version rather than a byte sequence, so If-Match compares versions and accepts the
+    // weak tag GET and PUT send as well as the strong form older clients send.
+    private static boolean matchesVersion(String ifMatch, long version) {
+        String strong = "\"v" + version + "\"";
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(strong) || tag.equals("W/" + strong)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -7,6 +7,7 @@ import java.util.List;
 public class AssessmentDTO {
 
     private long id;
+    private Long version;
     private AssessmentScore score;
     private List<AssessmentCategoryDto>  categories;
 
@@ -18,6 +19,14 @@ public class AssessmentDTO {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public AssessmentScore getScore() {
         return score;
     }
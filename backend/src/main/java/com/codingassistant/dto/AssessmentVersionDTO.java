@@ -0,0 +1,32 @@
+package com.codingassistant.dto;
+
+import java.time.LocalDateTime;
+
+public class AssessmentVersionDTO {
+    private long version;
+    private LocalDateTime updatedAt;
+
+    public AssessmentVersionDTO() {
+    }
+
+    public AssessmentVersionDTO(Long version, LocalDateTime updatedAt) {
+        this.version = version == null ? 0 : version;
+        this.updatedAt = updatedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
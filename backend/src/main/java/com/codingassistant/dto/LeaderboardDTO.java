@@ -0,0 +1,24 @@
+package com.codingassistant.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class LeaderboardDTO {
+
+    private final List<PerformanceDTO> performances;
+    private final LocalDateTime lastModified;
+
+    public LeaderboardDTO(List<PerformanceDTO> performances, LocalDateTime lastModified) {
+        this.performances = performances;
+        this.lastModified = lastModified;
+    }
+
+    public List<PerformanceDTO> getPerformances() {
+        return performances;
+    }
+
+    // The catalog's updated_at watermark as of this ranking; null for an empty catalog.
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+}
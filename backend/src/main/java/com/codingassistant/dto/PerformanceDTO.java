@@ -8,6 +8,21 @@ public class PerformanceDTO {
     private int intelligence;
     private int experience;
     private int value;
+    private Integer rank;
+
+    public PerformanceDTO() {
+    }
+
+    public PerformanceDTO(Long id, String name, Integer total, Integer acceleration,
+                          Integer intelligence, Integer experience, Integer value) {
+        this.id = id;
+        this.name = name;
+        this.total = total == null ? 0 : total;
+        this.acceleration = acceleration == null ? 0 : acceleration;
+        this.intelligence = intelligence == null ? 0 : intelligence;
+        this.experience = experience == null ? 0 : experience;
+        this.value = value == null ? 0 : value;
+    }
 
     public long getId() {
         return id;
@@ -64,4 +79,12 @@ public class PerformanceDTO {
     public void setValue(int value) {
         this.value = value;
     }
+
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
 }
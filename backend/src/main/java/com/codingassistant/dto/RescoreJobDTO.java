@@ -0,0 +1,111 @@
+package com.codingassistant.dto;
+
+import java.time.LocalDateTime;
+
+public class RescoreJobDTO {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String INTERRUPTED = "INTERRUPTED";
+
+    private Long id;
+    private String profile;
+    private String status;
+    private long totalTools;
+    private long processedTools;
+    private long updatedTools;
+    private long lastToolId;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public void setProfile(String profile) {
+        this.profile = profile;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getTotalTools() {
+        return totalTools;
+    }
+
+    public void setTotalTools(long totalTools) {
+        this.totalTools = totalTools;
+    }
+
+    public long getProcessedTools() {
+        return processedTools;
+    }
+
+    public void setProcessedTools(long processedTools) {
+        this.processedTools = processedTools;
+    }
+
+    public long getUpdatedTools() {
+        return updatedTools;
+    }
+
+    public void setUpdatedTools(long updatedTools) {
+        this.updatedTools = updatedTools;
+    }
+
+    public long getLastToolId() {
+        return lastToolId;
+    }
+
+    public void setLastToolId(long lastToolId) {
+        this.lastToolId = lastToolId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,42 @@
+package com.codingassistant.dto;
+
+import java.util.Map;
+
+public class ScoringProfileDTO {
+    private String name;
+    private boolean active;
+    private Map<String, Double> weights;
+
+    public ScoringProfileDTO() {
+    }
+
+    public ScoringProfileDTO(String name, boolean active, Map<String, Double> weights) {
+        this.name = name;
+        this.active = active;
+        this.weights = weights;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Map<String, Double> getWeights() {
+        return weights;
+    }
+
+    public void setWeights(Map<String, Double> weights) {
+        this.weights = weights;
+    }
+}
@@ -0,0 +1,58 @@
+package com.codingassistant.dto;
+
+public class SubScoreRankDTO {
+    private long toolId;
+    private String name;
+    private String category;
+    private String dimension;
+    private int score;
+    private int rank;
+
+    public long getToolId() {
+        return toolId;
+    }
+
+    public void setToolId(long toolId) {
+        this.toolId = toolId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(String dimension) {
+        this.dimension = dimension;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+}
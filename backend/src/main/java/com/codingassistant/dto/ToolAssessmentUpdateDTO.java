@@ -0,0 +1,23 @@
+package com.codingassistant.dto;
+
+public class ToolAssessmentUpdateDTO extends AssessmentScoresAndNotesDTO {
+
+    private Long toolId;
+    private Long version;
+
+    public Long getToolId() {
+        return toolId;
+    }
+
+    public void setToolId(Long toolId) {
+        this.toolId = toolId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
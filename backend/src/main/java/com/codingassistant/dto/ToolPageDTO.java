@@ -0,0 +1,30 @@
+package com.codingassistant.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ToolPageDTO {
+
+    private final List<ToolDto> tools;
+    private final Long nextCursor;
+    private final LocalDateTime lastModified;
+
+    public ToolPageDTO(List<ToolDto> tools, Long nextCursor, LocalDateTime lastModified) {
+        this.tools = tools;
+        this.nextCursor = nextCursor;
+        this.lastModified = lastModified;
+    }
+
+    public List<ToolDto> getTools() {
+        return tools;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    // The catalog's updated_at watermark as of this page; null for an empty catalog.
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+}
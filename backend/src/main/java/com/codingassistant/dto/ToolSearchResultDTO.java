@@ -0,0 +1,49 @@
+package com.codingassistant.dto;
+
+public class ToolSearchResultDTO {
+    private long toolId;
+    private String name;
+    private String category;
+    private double rank;
+    private String snippet;
+
+    public long getToolId() {
+        return toolId;
+    }
+
+    public void setToolId(long toolId) {
+        this.toolId = toolId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public double getRank() {
+        return rank;
+    }
+
+    public void setRank(double rank) {
+        this.rank = rank;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+}
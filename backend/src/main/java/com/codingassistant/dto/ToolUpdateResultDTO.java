@@ -0,0 +1,67 @@
+package com.codingassistant.dto;
+
+import java.util.List;
+
+public class ToolUpdateResultDTO {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String INVALID = "INVALID";
+    public static final String CONFLICT = "CONFLICT";
+
+    private Long toolId;
+    private String status;
+    private String message;
+    private Long version;
+    private List<String> changes;
+
+    public ToolUpdateResultDTO() {
+    }
+
+    public ToolUpdateResultDTO(Long toolId, String status, String message) {
+        this.toolId = toolId;
+        this.status = status;
+        this.message = message;
+    }
+
+    public Long getToolId() {
+        return toolId;
+    }
+
+    public void setToolId(Long toolId) {
+        this.toolId = toolId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public List<String> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<String> changes) {
+        this.changes = changes;
+    }
+}
@@ -0,0 +1,26 @@
+package com.codingassistant.event;
+
+import com.codingassistant.dto.PerformanceDTO;
+
+import java.time.LocalDateTime;
+
+public class ToolScoresUpdatedEvent {
+
+    private final PerformanceDTO performance;
+    private final LocalDateTime updatedAt;
+
+    public ToolScoresUpdatedEvent(PerformanceDTO performance, LocalDateTime updatedAt) {
+        this.performance = performance;
+        this.updatedAt = updatedAt;
+    }
+
+    public PerformanceDTO getPerformance() {
+        return performance;
+    }
+
+    // The assessment's updated_at as this JVM set it; the stored value comes from the database trigger and may differ
+    // slightly. It advances the leaderboard's watermark.
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.codingassistant.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Sees every statement Hibernate prepares (not JdbcTemplate queries). Counts them per request and, globally, by kind.
+public class CountingStatementInspector implements StatementInspector {
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    public CountingStatementInspector(MeterRegistry meterRegistry) {
+        this.selects = counter(meterRegistry, "select");
+        this.inserts = counter(meterRegistry, "insert");
+        this.updates = counter(meterRegistry, "update");
+        this.deletes = counter(meterRegistry, "delete");
+        this.others = counter(meterRegistry, "other");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("scorecard.sql.statements")
+                .description("SQL statements prepared by Hibernate")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats.statementPrepared();
+        kindOf(sql).increment();
+        return sql;
+    }
+
+    private Counter kindOf(String sql) {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        if (sql.regionMatches(true, start, "select", 0, 6) || sql.regionMatches(true, start, "with", 0, 4)) {
+            return selects;
+        }
+        if (sql.regionMatches(true, start, "insert", 0, 6)) {
+            return inserts;
+        }
+        if (sql.regionMatches(true, start, "update", 0, 6)) {
+            return updates;
+        }
+        if (sql.regionMatches(true, start, "delete", 0, 6)) {
+            return deletes;
+        }
+        return others;
+    }
+}
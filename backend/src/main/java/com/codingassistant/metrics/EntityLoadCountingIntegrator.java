@@ -0,0 +1,43 @@
+package com.codingassistant.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+// Counts entity instances hydrated by Hibernate, per request and in total, so a lazy-loading N+1 shows up as a
+// jump in entities (and statements) per request.
+public class EntityLoadCountingIntegrator implements Integrator, PostLoadEventListener {
+
+    private final Counter entitiesLoaded;
+
+    public EntityLoadCountingIntegrator(MeterRegistry meterRegistry) {
+        this.entitiesLoaded = Counter.builder("scorecard.hibernate.entities.loaded")
+                .description("Entity instances loaded by Hibernate")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestQueryStats.entityLoaded();
+        entitiesLoaded.increment();
+    }
+}
@@ -0,0 +1,46 @@
+package com.codingassistant.metrics;
+
+// SQL statements and entities loaded by the current request. Bound to the request thread by
+// RequestQueryMetricsFilter; work outside a request (scheduled jobs, async streaming) is not attributed.
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entitiesLoaded;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entitiesLoaded++;
+        }
+    }
+
+    int getStatements() {
+        return statements;
+    }
+
+    int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+}
@@ -0,0 +1,28 @@
+package com.codingassistant.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+// The matched URI template ("/tools/{id}"), never the raw path, so tag cardinality stays bounded.
+final class RequestTags {
+
+    static final String UNKNOWN = "UNKNOWN";
+
+    private RequestTags() {
+    }
+
+    static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN : pattern.toString();
+    }
+
+    static String currentUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                ? uri(servletAttributes.getRequest())
+                : UNKNOWN;
+    }
+}
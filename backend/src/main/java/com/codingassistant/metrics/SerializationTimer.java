@@ -0,0 +1,22 @@
+package com.codingassistant.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+// One timer per endpoint and wire format, shared by the JSON, Smile and CBOR converters.
+final class SerializationTimer {
+
+    private SerializationTimer() {
+    }
+
+    static void record(MeterRegistry meterRegistry, String format, long startNanos) {
+        Timer.builder("scorecard.http.serialization")
+                .description("Time spent serializing response bodies")
+                .tag("uri", RequestTags.currentUri())
+                .tag("format", format)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,16 +1,17 @@
 package com.codingassistant.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import org.hibernate.annotations.Type;
 
 @Entity
+@DynamicUpdate
 @Table(name = "assessments")
 public class Assessment {
     @Id
-    @SequenceGenerator(name = "assessments_id_seq_generator", sequenceName = "assessments_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "assessments_id_seq_generator", sequenceName = "assessments_id_seq", allocationSize = 50)
     @GeneratedValue(
             strategy = GenerationType.SEQUENCE,
             generator = "assessments_id_seq_generator"
@@ -27,6 +28,10 @@ public class Assessment {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToOne(mappedBy = "assessment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private AssessmentScore assessmentScore;
 
@@ -44,6 +49,12 @@ public class Assessment {
         updatedAt = LocalDateTime.now();
     }
 
+    // Score and category edits do not dirty the assessment row itself; bumping updatedAt here keeps
+    // the updated_at watermark used for ETags moving with every change.
+    public void markUpdated() {
+        updatedAt = LocalDateTime.now();
+    }
+
     @Override
     public String toString() {
         return String.format("Assessment[id=%d, toolId=%d]",
@@ -88,6 +99,10 @@ public class Assessment {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public AssessmentScore getAssessmentScore() {
         return assessmentScore;
     }
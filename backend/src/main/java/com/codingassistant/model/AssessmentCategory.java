@@ -1,18 +1,21 @@
 package com.codingassistant.model;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "assessment_categories")
 public class AssessmentCategory {
     @Id
     @SequenceGenerator(
             name = "assessment_categories_id_seq_generator",
             sequenceName = "assessment_categories_id_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     @GeneratedValue(
             strategy = GenerationType.SEQUENCE,
@@ -27,7 +30,8 @@ public class AssessmentCategory {
     @Column(name = "name", nullable = false)
     private String name;
 
-    @Column(name = "score")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "score", columnDefinition = "jsonb")
     private String score;
 
     @Column(name = "note")
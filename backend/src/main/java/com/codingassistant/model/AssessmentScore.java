@@ -1,12 +1,14 @@
 package com.codingassistant.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Table(name = "assessment_scores")
 public class AssessmentScore {
     @Id
-    @SequenceGenerator(name = "assessment_scores_id_seq_generator", sequenceName = "assessment_scores_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "assessment_scores_id_seq_generator", sequenceName = "assessment_scores_id_seq", allocationSize = 50)
     @GeneratedValue(
             strategy = GenerationType.SEQUENCE,
             generator = "assessment_scores_id_seq_generator"
@@ -32,6 +34,10 @@ public class AssessmentScore {
     @Column(name = "value")
     private Integer value;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 
     @Override
     public String toString() {
@@ -108,4 +114,12 @@ public class AssessmentScore {
     public void setValue(Integer value) {
         this.value = value;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -11,7 +11,7 @@ public class Tool {
     @SequenceGenerator(
             name = "tools_id_seq_generator",
             sequenceName = "tools_id_seq",
-            allocationSize = 1
+            allocationSize = 50
     )
     @GeneratedValue(
             strategy = GenerationType.SEQUENCE,
@@ -0,0 +1,192 @@
+package com.codingassistant.repository;
+
+import com.codingassistant.dto.AssessmentSnapshotDTO;
+import com.codingassistant.dto.PerformanceDTO;
+import com.codingassistant.service.LeaderboardSortKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class AssessmentHistoryRepository {
+
+    // Snapshots are stamped with the transaction time, the same now() that update_assessments_updated_at uses.
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO assessment_history (tool_id, recorded_at, total, acceleration, intelligence, experience, value) " +
+            "VALUES (?, now(), ?, ?, ?, ?, ?)";
+
+    private static final String TOOLS_WITHOUT_HISTORY =
+            "FROM assessments a JOIN assessment_scores s ON s.assessment_id = a.id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM assessment_history h WHERE h.tool_id = a.tool_id)";
+
+    private static final String BASELINE_RECORDED_AT = "coalesce(a.updated_at, a.created_at, now())";
+
+    // Downsampling: the range is cut into equal buckets and the last snapshot of each bucket is kept.
+    private static final String HISTORY_QUERY =
+            "SELECT DISTINCT ON (bucket) recorded_at, total, acceleration, intelligence, experience, value " +
+            "FROM (SELECT h.*, floor(extract(epoch FROM h.recorded_at - ?) / ?) AS bucket FROM assessment_history h " +
+            "WHERE h.tool_id = ? AND h.recorded_at >= ? AND h.recorded_at <= ?) h " +
+            "ORDER BY bucket, recorded_at DESC";
+
+    private static final String SNAPSHOT_COLUMNS = "tool_id, recorded_at, total, acceleration, intelligence, experience, value";
+
+    // A month's closing snapshots are the previous month's carried forward, overridden by the month's own snapshots.
+    private static final String ROLL_UP_MONTH =
+            "INSERT INTO assessment_history_monthly (month, " + SNAPSHOT_COLUMNS + ") " +
+            "SELECT DISTINCT ON (tool_id) ?, " + SNAPSHOT_COLUMNS + " FROM (" +
+            "SELECT " + SNAPSHOT_COLUMNS + " FROM assessment_history_monthly WHERE month = ? UNION ALL " +
+            "SELECT " + SNAPSHOT_COLUMNS + " FROM assessment_history WHERE recorded_at >= ? AND recorded_at < ?) h " +
+            "ORDER BY tool_id, recorded_at DESC";
+
+    // The closing snapshots of the month before asOf plus the raw snapshots of asOf's own month up to asOf.
+    private static final String SCORES_AS_OF =
+            "SELECT DISTINCT ON (tool_id) tool_id, total, acceleration, intelligence, experience, value " +
+            "FROM (SELECT " + SNAPSHOT_COLUMNS + " FROM assessment_history_monthly WHERE month = ? UNION ALL " +
+            "SELECT " + SNAPSHOT_COLUMNS + " FROM assessment_history WHERE recorded_at >= ? AND recorded_at <= ?) h " +
+            "ORDER BY tool_id, recorded_at DESC";
+
+    // Before the first rolled-up month: one index probe per tool on (tool_id, recorded_at).
+    private static final String SCORES_AS_OF_UNROLLED =
+            "SELECT t.id AS tool_id, h.total, h.acceleration, h.intelligence, h.experience, h.value " +
+            "FROM tools t CROSS JOIN LATERAL (SELECT total, acceleration, intelligence, experience, value " +
+            "FROM assessment_history h WHERE h.tool_id = t.id AND h.recorded_at <= ? " +
+            "ORDER BY h.recorded_at DESC LIMIT 1) h";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AssessmentHistoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Month boundaries are in UTC. Returns false when the partition already existed.
+    public boolean createMonthlyPartition(YearMonth month) {
+        String name = String.format("assessment_history_y%04dm%02d", month.getYear(), month.getMonthValue());
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, "public." + name);
+        if (Boolean.TRUE.equals(exists)) {
+            return false;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS public." + name + " PARTITION OF public.assessment_history " +
+                "FOR VALUES FROM ('" + month.atDay(1) + " 00:00:00+00') TO ('" + month.plusMonths(1).atDay(1) + " 00:00:00+00')");
+        return true;
+    }
+
+    public List<YearMonth> findBaselineMonths() {
+        return jdbcTemplate.query("SELECT DISTINCT date_trunc('month', " + BASELINE_RECORDED_AT + " AT TIME ZONE 'UTC')::date " +
+                "AS month " + TOOLS_WITHOUT_HISTORY, (rs, rowNum) -> YearMonth.from(rs.getObject("month", LocalDate.class)));
+    }
+
+    // Tools that predate the history table, or were created without going through an update, get their current
+    // scores as a first snapshot, dated at the assessment's last change.
+    public int recordBaselines() {
+        return jdbcTemplate.update("INSERT INTO assessment_history " +
+                "(tool_id, recorded_at, total, acceleration, intelligence, experience, value) " +
+                "SELECT a.tool_id, " + BASELINE_RECORDED_AT + ", coalesce(round(s.total), 0), " +
+                "coalesce(round(s.acceleration), 0), coalesce(round(s.intelligence), 0), " +
+                "coalesce(round(s.experience), 0), coalesce(round(s.value), 0) " + TOOLS_WITHOUT_HISTORY);
+    }
+
+    public void record(List<PerformanceDTO> performances) {
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PerformanceDTO performance = performances.get(i);
+                ps.setLong(1, performance.getId());
+                ps.setInt(2, performance.getTotal());
+                ps.setInt(3, performance.getAcceleration());
+                ps.setInt(4, performance.getIntelligence());
+                ps.setInt(5, performance.getExperience());
+                ps.setInt(6, performance.getValue());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return performances.size();
+            }
+        });
+    }
+
+    public Optional<Instant> findFirstRecordedAt(long toolId) {
+        Timestamp first = jdbcTemplate.queryForObject(
+                "SELECT min(recorded_at) FROM assessment_history WHERE tool_id = ?", Timestamp.class, toolId);
+        return Optional.ofNullable(first).map(Timestamp::toInstant);
+    }
+
+    public List<AssessmentSnapshotDTO> findHistory(long toolId, Instant from, Instant to, double bucketSeconds) {
+        Timestamp fromTimestamp = Timestamp.from(from);
+        return jdbcTemplate.query(HISTORY_QUERY, (rs, rowNum) -> {
+            AssessmentSnapshotDTO snapshot = new AssessmentSnapshotDTO();
+            snapshot.setRecordedAt(rs.getTimestamp("recorded_at").toLocalDateTime());
+            snapshot.setTotal(rs.getInt("total"));
+            snapshot.setAcceleration(rs.getInt("acceleration"));
+            snapshot.setIntelligence(rs.getInt("intelligence"));
+            snapshot.setExperience(rs.getInt("experience"));
+            snapshot.setValue(rs.getInt("value"));
+            return snapshot;
+        }, fromTimestamp, bucketSeconds, toolId, fromTimestamp, Timestamp.from(to));
+    }
+
+    public Optional<YearMonth> findLastRolledUpMonth() {
+        LocalDate month = jdbcTemplate.queryForObject("SELECT max(month) FROM assessment_history_monthly", LocalDate.class);
+        return Optional.ofNullable(month).map(YearMonth::from);
+    }
+
+    public Optional<YearMonth> findFirstMonth() {
+        Timestamp first = jdbcTemplate.queryForObject("SELECT min(recorded_at) FROM assessment_history", Timestamp.class);
+        return Optional.ofNullable(first).map(timestamp -> YearMonth.from(timestamp.toInstant().atZone(ZoneOffset.UTC)));
+    }
+
+    public boolean isRolledUp(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM assessment_history_monthly WHERE month = ?)", Boolean.class, month.atDay(1)));
+    }
+
+    public int rollUp(YearMonth month) {
+        return jdbcTemplate.update(ROLL_UP_MONTH, month.atDay(1), month.minusMonths(1).atDay(1),
+                monthStart(month), monthStart(month.plusMonths(1)));
+    }
+
+    // For snapshots recorded into months that were already rolled up.
+    public int deleteRollUpsFrom(YearMonth month) {
+        return jdbcTemplate.update("DELETE FROM assessment_history_monthly WHERE month >= ?", month.atDay(1));
+    }
+
+    // Ranked and cut in SQL, and only then joined to tools for the names, so only the requested rows are carried
+    // further; rank() is the same competition ranking as the stored leaderboard. The sort column comes from the
+    // LeaderboardSortKey whitelist.
+    public List<PerformanceDTO> findPerformancesAsOf(Instant asOf, boolean previousMonthRolledUp,
+                                                     LeaderboardSortKey sortKey, int limit) {
+        String column = sortKey.name().toLowerCase();
+        String sql = "SELECT t.id, t.name, r.total, r.acceleration, r.intelligence, r.experience, r.value, r.rank " +
+                "FROM (SELECT s.*, rank() OVER (ORDER BY s." + column + " DESC) AS rank FROM (" +
+                (previousMonthRolledUp ? SCORES_AS_OF : SCORES_AS_OF_UNROLLED) + ") s " +
+                "ORDER BY s." + column + " DESC, s.tool_id LIMIT ?) r " +
+                "JOIN tools t ON t.id = r.tool_id " +
+                "ORDER BY r." + column + " DESC, r.tool_id";
+        YearMonth month = YearMonth.from(asOf.atZone(ZoneOffset.UTC));
+        Object[] args = previousMonthRolledUp
+                ? new Object[]{month.minusMonths(1).atDay(1), monthStart(month), Timestamp.from(asOf), limit}
+                : new Object[]{Timestamp.from(asOf), limit};
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            PerformanceDTO performance = new PerformanceDTO(rs.getLong("id"), rs.getString("name"), rs.getInt("total"),
+                    rs.getInt("acceleration"), rs.getInt("intelligence"), rs.getInt("experience"), rs.getInt("value"));
+            performance.setRank(rs.getInt("rank"));
+            return performance;
+        }, args);
+    }
+
+    private static Timestamp monthStart(YearMonth month) {
+        return Timestamp.from(month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+}
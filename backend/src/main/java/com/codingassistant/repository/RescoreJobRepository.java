@@ -0,0 +1,159 @@
+package com.codingassistant.repository;
+
+import com.codingassistant.dto.RescoreJobDTO;
+import com.codingassistant.service.RescoreChunk;
+import com.codingassistant.service.ScoringProfile;
+import com.codingassistant.service.SubScoreDimension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class RescoreJobRepository {
+
+    // LIMIT applies to the grouped rows, i.e. to tools; tools without scored categories drop out of the join, so a
+    // short chunk always means the end of the catalog. Bounding a.tool_id as well lets the merge join start at the
+    // chunk instead of scanning assessments from the first tool.
+    private static final String CHUNK_QUERY =
+            "SELECT t.id, t.name, a.version AS assessment_version, " + SubScoreRankingRepository.SUB_SCORE_COLUMNS + " " +
+            "FROM tools t " +
+            "JOIN assessments a ON a.tool_id = t.id " +
+            "JOIN assessment_categories c ON c.assessment_id = a.id " +
+            "WHERE t.id > ? AND a.tool_id > ? " +
+            "GROUP BY t.id, a.version ORDER BY t.id LIMIT ?";
+
+    // A whole chunk per statement: the new totals arrive as parallel arrays. The chunk's assessments are locked first,
+    // in id order, and only those whose version is still the one the chunk was read at are kept; under READ COMMITTED
+    // a lock that waited on a PUT re-checks the version against the PUT's committed row, so the PUT is never
+    // overwritten. A PUT takes its assessment row before its score row as well, so the two cannot deadlock.
+    // Unchanged totals are left alone; for the rest the assessment's version and, through
+    // update_assessments_updated_at, its updated_at move as they would for a PUT, and a history snapshot is appended.
+    private static final String WRITE_SCORES =
+            "WITH locked AS (" +
+            "SELECT a.id, a.tool_id, v.total, v.acceleration, v.intelligence, v.experience, v.value " +
+            "FROM assessments a JOIN unnest(?::bigint[], ?::bigint[], ?::int[], ?::int[], ?::int[], ?::int[], ?::int[]) " +
+            "AS v(tool_id, assessment_version, total, acceleration, intelligence, experience, value) " +
+            "ON a.tool_id = v.tool_id WHERE a.version = v.assessment_version ORDER BY a.id FOR UPDATE OF a), " +
+            "rescored AS (" +
+            "UPDATE assessment_scores s SET total = v.total, acceleration = v.acceleration, " +
+            "intelligence = v.intelligence, experience = v.experience, value = v.value, version = s.version + 1 " +
+            "FROM locked v WHERE s.assessment_id = v.id " +
+            "AND (s.total, s.acceleration, s.intelligence, s.experience, s.value) " +
+            "IS DISTINCT FROM (v.total, v.acceleration, v.intelligence, v.experience, v.value) " +
+            "RETURNING s.assessment_id, v.tool_id, v.total, v.acceleration, v.intelligence, v.experience, v.value), " +
+            "history AS (INSERT INTO assessment_history " +
+            "(tool_id, recorded_at, total, acceleration, intelligence, experience, value) " +
+            "SELECT tool_id, now(), total, acceleration, intelligence, experience, value FROM rescored) " +
+            "UPDATE assessments a SET version = a.version + 1 FROM rescored WHERE a.id = rescored.assessment_id " +
+            "RETURNING a.tool_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public RescoreJobRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long create(String profile, long totalTools) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO rescore_jobs (profile, status, total_tools) VALUES (?, ?, ?) RETURNING id",
+                Long.class, profile, RescoreJobDTO.RUNNING, totalTools);
+    }
+
+    public Optional<RescoreJobDTO> findById(long id) {
+        List<RescoreJobDTO> jobs = jdbcTemplate.query("SELECT * FROM rescore_jobs WHERE id = ?",
+                (rs, rowNum) -> rescoreJob(rs), id);
+        return jobs.stream().findFirst();
+    }
+
+    public long countTools() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tools", Long.class);
+    }
+
+    public void markRunning(long id) {
+        jdbcTemplate.update("UPDATE rescore_jobs SET status = ?, error = NULL, finished_at = NULL, updated_at = now() " +
+                "WHERE id = ?", RescoreJobDTO.RUNNING, id);
+    }
+
+    public void checkpoint(long id, long lastToolId, int processed, int updated) {
+        jdbcTemplate.update("UPDATE rescore_jobs SET last_tool_id = ?, processed_tools = processed_tools + ?, " +
+                "updated_tools = updated_tools + ?, updated_at = now() WHERE id = ?", lastToolId, processed, updated, id);
+    }
+
+    public void finish(long id, String status, String error) {
+        jdbcTemplate.update("UPDATE rescore_jobs SET status = ?, error = ?, finished_at = now(), updated_at = now() " +
+                "WHERE id = ?", status, error, id);
+    }
+
+    // Jobs left RUNNING by a previous process that died mid-run.
+    public int markInterrupted() {
+        return jdbcTemplate.update("UPDATE rescore_jobs SET status = ?, updated_at = now() WHERE status = ?",
+                RescoreJobDTO.INTERRUPTED, RescoreJobDTO.RUNNING);
+    }
+
+    public RescoreChunk findChunk(long afterToolId, int limit) {
+        RescoreChunk chunk = new RescoreChunk(limit);
+        jdbcTemplate.query(CHUNK_QUERY, rs -> {
+            int offset = chunk.add(rs.getLong("id"), rs.getString("name"), rs.getLong("assessment_version"));
+            for (SubScoreDimension dimension : SubScoreDimension.values()) {
+                chunk.matrix().subScores()[offset + dimension.ordinal()] = rs.getInt(dimension.name());
+            }
+        }, afterToolId, afterToolId, limit);
+        return chunk;
+    }
+
+    // scores holds ScoringProfile.SCORES values per chunk row. Returns the ids of the tools that were rewritten.
+    public long[] writeScores(RescoreChunk chunk, int[] scores) {
+        int size = chunk.size();
+        Long[] toolIds = new Long[size];
+        Long[] assessmentVersions = new Long[size];
+        Integer[][] columns = new Integer[ScoringProfile.SCORES][size];
+        for (int i = 0; i < size; i++) {
+            toolIds[i] = chunk.toolId(i);
+            assessmentVersions[i] = chunk.assessmentVersion(i);
+            for (int c = 0; c < ScoringProfile.SCORES; c++) {
+                columns[c][i] = scores[i * ScoringProfile.SCORES + c];
+            }
+        }
+        List<Long> updated = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(WRITE_SCORES);
+            ps.setArray(1, connection.createArrayOf("bigint", toolIds));
+            ps.setArray(2, connection.createArrayOf("bigint", assessmentVersions));
+            int[] order = {ScoringProfile.TOTAL, ScoringProfile.ACCELERATION, ScoringProfile.INTELLIGENCE,
+                    ScoringProfile.EXPERIENCE, ScoringProfile.VALUE};
+            for (int c = 0; c < order.length; c++) {
+                ps.setArray(3 + c, connection.createArrayOf("int4", columns[order[c]]));
+            }
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+        return updated.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static RescoreJobDTO rescoreJob(ResultSet rs) throws SQLException {
+        RescoreJobDTO job = new RescoreJobDTO();
+        job.setId(rs.getLong("id"));
+        job.setProfile(rs.getString("profile"));
+        job.setStatus(rs.getString("status"));
+        job.setTotalTools(rs.getLong("total_tools"));
+        job.setProcessedTools(rs.getLong("processed_tools"));
+        job.setUpdatedTools(rs.getLong("updated_tools"));
+        job.setLastToolId(rs.getLong("last_tool_id"));
+        job.setError(rs.getString("error"));
+        job.setStartedAt(localDateTime(rs.getTimestamp("started_at")));
+        job.setUpdatedAt(localDateTime(rs.getTimestamp("updated_at")));
+        job.setFinishedAt(localDateTime(rs.getTimestamp("finished_at")));
+        return job;
+    }
+
+    private static LocalDateTime localDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
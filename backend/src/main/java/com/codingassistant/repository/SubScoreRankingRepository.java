@@ -0,0 +1,75 @@
+package com.codingassistant.repository;
+
+import com.codingassistant.dto.SubScoreRankDTO;
+import com.codingassistant.service.SubScoreDimension;
+import com.codingassistant.service.SubScoreMatrix;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+@Repository
+public class SubScoreRankingRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SubScoreRankingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // The category and sub-score key are inlined rather than bound so the statement matches the partial
+    // expression indexes in 01-schema.sql even under a generic plan; both come from the SubScoreDimension whitelist.
+    public List<SubScoreRankDTO> findTopBySubScore(SubScoreDimension dimension, Integer minScore, int limit) {
+        String subScore = "((c.score -> 'score') ->> '" + dimension.getKey() + "')::int";
+        String sql = "SELECT t.id, t.name, " + subScore + " AS sub_score " +
+                "FROM assessment_categories c " +
+                "JOIN assessments a ON a.id = c.assessment_id " +
+                "JOIN tools t ON t.id = a.tool_id " +
+                "WHERE c.name = '" + dimension.getCategoryName() + "' AND " + subScore + (minScore == null ? " IS NOT NULL " : " >= ? ") +
+                "ORDER BY " + subScore + " DESC NULLS LAST, c.assessment_id " +
+                "LIMIT ?";
+        Object[] args = minScore == null ? new Object[]{limit} : new Object[]{minScore, limit};
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            SubScoreRankDTO subScoreRank = new SubScoreRankDTO();
+            subScoreRank.setToolId(rs.getLong("id"));
+            subScoreRank.setName(rs.getString("name"));
+            subScoreRank.setCategory(dimension.getCategoryName());
+            subScoreRank.setDimension(dimension.getKey());
+            subScoreRank.setScore(rs.getInt("sub_score"));
+            return subScoreRank;
+        }, args);
+    }
+
+    // One int column per SubScoreDimension, named after the enum constant, for a query grouped by assessment
+    // over assessment_categories c; missing sub-scores come back as NULL.
+    static final String SUB_SCORE_COLUMNS = subScoreColumns();
+
+    // Every tool's sub-scores in one pass, pivoted in SQL so each tool is a single row; missing sub-scores read as 0.
+    public SubScoreMatrix findSubScoreMatrix() {
+        String sql = "SELECT t.id, t.name, " + SUB_SCORE_COLUMNS + " " +
+                "FROM tools t " +
+                "JOIN assessments a ON a.tool_id = t.id " +
+                "JOIN assessment_categories c ON c.assessment_id = a.id " +
+                "GROUP BY t.id, t.name ORDER BY t.id";
+        SubScoreMatrix matrix = new SubScoreMatrix(1024);
+        jdbcTemplate.query(sql, rs -> {
+            int offset = matrix.add(rs.getLong("id"), rs.getString("name"));
+            for (SubScoreDimension dimension : SubScoreDimension.values()) {
+                matrix.subScores()[offset + dimension.ordinal()] = rs.getInt(dimension.name());
+            }
+        });
+        return matrix;
+    }
+
+    private static String subScoreColumns() {
+        StringJoiner columns = new StringJoiner(", ");
+        for (SubScoreDimension dimension : SubScoreDimension.values()) {
+            columns.add("max(((c.score -> 'score') ->> '" + dimension.getKey() + "')::int) FILTER (WHERE c.name = '"
+                    + dimension.getCategoryName() + "') AS " + dimension.name());
+        }
+        return columns.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.codingassistant.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+@Repository
+public class ToolExportRepository {
+
+    private static final String SCORECARD_QUERY =
+            "SELECT t.id, t.name, t.status, t.category, t.description, t.last_assessment, " +
+            "s.total, s.intelligence, s.acceleration, s.experience, s.value, " +
+            "c.name AS category_name, c.score AS category_score, c.note AS category_note " +
+            "FROM tools t " +
+            "LEFT JOIN assessments a ON a.tool_id = t.id " +
+            "LEFT JOIN assessment_scores s ON s.assessment_id = a.id " +
+            "LEFT JOIN assessment_categories c ON c.assessment_id = a.id " +
+            "ORDER BY t.id, c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // A dedicated template so the fetch size only applies to the export cursor. PgJDBC honours it
+    // only inside a transaction, which the calling service provides.
+    @Autowired
+    public ToolExportRepository(DataSource dataSource, @Value("${scorecard.export.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamScorecard(RowCallbackHandler rowCallbackHandler) {
+        jdbcTemplate.query(SCORECARD_QUERY, rowCallbackHandler);
+    }
+}
@@ -0,0 +1,190 @@
+package com.codingassistant.repository;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+// Every statement here runs in the importing transaction: the staging table only lives until it commits.
+@Repository
+public class ToolImportRepository {
+
+    // Same as the INCREMENT BY of the id sequences and the allocationSize of the entities.
+    private static final int ID_BLOCK_SIZE = 50;
+
+    // Same columns, in the same order, as the CSV export; line numbers the input, tool_id, assessment_id and the flags
+    // are filled in by the merge. Typed like the target columns, so COPY itself rejects malformed values with the
+    // offending line.
+    private static final String CREATE_STAGING =
+            "CREATE TEMP TABLE tool_import (line int8 GENERATED ALWAYS AS IDENTITY, " +
+            "id int8, name varchar(100) NOT NULL, status varchar(20) NOT NULL, category varchar(50), " +
+            "description text, last_assessment date, " +
+            "total numeric(5, 2), intelligence numeric(5, 2), acceleration numeric(5, 2), " +
+            "experience numeric(5, 2), value numeric(5, 2), " +
+            "intelligence_score jsonb, intelligence_note text, acceleration_score jsonb, acceleration_note text, " +
+            "experience_score jsonb, experience_note text, value_score jsonb, value_note text, " +
+            "tool_id int4, assessment_id int4, existing boolean NOT NULL DEFAULT false, " +
+            "changed boolean NOT NULL DEFAULT false) ON COMMIT DROP";
+
+    private static final String COPY_STAGING =
+            "COPY tool_import (id, name, status, category, description, last_assessment, " +
+            "total, intelligence, acceleration, experience, value, " +
+            "intelligence_score, intelligence_note, acceleration_score, acceleration_note, " +
+            "experience_score, experience_note, value_score, value_note) FROM STDIN (FORMAT csv)";
+
+    private static final String STAGED_CATEGORIES =
+            "tool_import s CROSS JOIN LATERAL (VALUES " +
+            "('Intelligence', s.intelligence_score, s.intelligence_note), " +
+            "('Acceleration', s.acceleration_score, s.acceleration_note), " +
+            "('Experience', s.experience_score, s.experience_note), " +
+            "('Value', s.value_score, s.value_note)) AS v(name, score, note)";
+
+    private static final String SCORE_COLUMNS = "total, intelligence, acceleration, experience, value";
+
+    private static final String UPDATE_TOOLS =
+            "WITH updated AS (UPDATE tools t SET name = s.name, status = s.status, category = s.category, " +
+            "description = s.description, last_assessment = s.last_assessment FROM tool_import s " +
+            "WHERE s.existing AND t.id = s.tool_id " +
+            "AND (t.name, t.status, t.category, t.description, t.last_assessment) " +
+            "IS DISTINCT FROM (s.name, s.status, s.category, s.description, s.last_assessment) RETURNING t.id) " +
+            "UPDATE tool_import s SET changed = true FROM updated WHERE s.tool_id = updated.id";
+
+    private static final String INSERT_TOOLS =
+            "INSERT INTO tools (id, name, status, category, description, last_assessment) " +
+            "SELECT tool_id, name, status, category, description, last_assessment FROM tool_import " +
+            "WHERE NOT existing ORDER BY tool_id";
+
+    private static final String ASSIGN_TOOL_IDS =
+            "WITH " + pooledIds("tools_id_seq", "SELECT line FROM tool_import WHERE NOT existing", "line") +
+            " UPDATE tool_import s SET tool_id = pooled.id FROM pooled WHERE s.line = pooled.line";
+
+    private static final String INSERT_ASSESSMENTS =
+            "WITH " + pooledIds("assessments_id_seq", "SELECT tool_id FROM tool_import WHERE assessment_id IS NULL", "tool_id") +
+            ", created AS (INSERT INTO assessments (id, tool_id) SELECT id, tool_id FROM pooled ORDER BY id " +
+            "RETURNING id, tool_id) " +
+            "UPDATE tool_import s SET assessment_id = created.id FROM created WHERE s.tool_id = created.tool_id";
+
+    // Rows without any score leave the stored scores alone. Every changed or new score row gets a history snapshot,
+    // as an update through the API would.
+    private static final String MERGE_SCORES =
+            "WITH updated AS (UPDATE assessment_scores sc SET total = s.total, intelligence = s.intelligence, " +
+            "acceleration = s.acceleration, experience = s.experience, value = s.value, version = sc.version + 1 " +
+            "FROM tool_import s WHERE sc.assessment_id = s.assessment_id " +
+            "AND num_nonnulls(s.total, s.intelligence, s.acceleration, s.experience, s.value) > 0 " +
+            "AND (sc.total, sc.intelligence, sc.acceleration, sc.experience, sc.value) " +
+            "IS DISTINCT FROM (s.total, s.intelligence, s.acceleration, s.experience, s.value) " +
+            "RETURNING s.tool_id, sc.total, sc.intelligence, sc.acceleration, sc.experience, sc.value), " +
+            pooledIds("assessment_scores_id_seq",
+                    "SELECT s.assessment_id, s.total, s.intelligence, s.acceleration, s.experience, s.value " +
+                    "FROM tool_import s WHERE num_nonnulls(s.total, s.intelligence, s.acceleration, s.experience, s.value) > 0 " +
+                    "AND NOT EXISTS (SELECT 1 FROM assessment_scores sc WHERE sc.assessment_id = s.assessment_id)",
+                    "assessment_id") + ", " +
+            "created AS (INSERT INTO assessment_scores (id, assessment_id, " + SCORE_COLUMNS + ") " +
+            "SELECT id, assessment_id, " + SCORE_COLUMNS + " FROM pooled ORDER BY id " +
+            "RETURNING assessment_id, " + SCORE_COLUMNS + "), " +
+            "snapshots AS (SELECT tool_id, " + SCORE_COLUMNS + " FROM updated UNION ALL " +
+            "SELECT s.tool_id, c.total, c.intelligence, c.acceleration, c.experience, c.value " +
+            "FROM created c JOIN tool_import s ON s.assessment_id = c.assessment_id), " +
+            "history AS (INSERT INTO assessment_history " +
+            "(tool_id, recorded_at, total, acceleration, intelligence, experience, value) " +
+            "SELECT tool_id, now(), coalesce(round(total), 0), coalesce(round(acceleration), 0), " +
+            "coalesce(round(intelligence), 0), coalesce(round(experience), 0), coalesce(round(value), 0) FROM snapshots) " +
+            "UPDATE tool_import s SET changed = true FROM snapshots WHERE s.tool_id = snapshots.tool_id";
+
+    // Categories are matched by name; the ones an input row leaves without a score are kept as they are.
+    private static final String MERGE_CATEGORIES =
+            "WITH updated AS (UPDATE assessment_categories c SET score = v.score, note = v.note FROM " + STAGED_CATEGORIES +
+            " WHERE s.existing AND v.score IS NOT NULL AND c.assessment_id = s.assessment_id AND c.name = v.name " +
+            "AND (c.score, c.note) IS DISTINCT FROM (v.score, v.note) RETURNING c.assessment_id), " +
+            pooledIds("assessment_categories_id_seq",
+                    "SELECT s.assessment_id, v.name, v.score, v.note FROM " + STAGED_CATEGORIES +
+                    " WHERE v.score IS NOT NULL AND NOT EXISTS (SELECT 1 FROM assessment_categories c " +
+                    "WHERE c.assessment_id = s.assessment_id AND c.name = v.name)",
+                    "assessment_id, name") + ", " +
+            "created AS (INSERT INTO assessment_categories (id, assessment_id, name, score, note) " +
+            "SELECT id, assessment_id, name, score, note FROM pooled ORDER BY id RETURNING assessment_id) " +
+            "UPDATE tool_import s SET changed = true " +
+            "WHERE s.assessment_id IN (SELECT assessment_id FROM updated UNION SELECT assessment_id FROM created)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ToolImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createStaging() {
+        jdbcTemplate.execute(CREATE_STAGING);
+    }
+
+    // csv holds rows in export column order, without a header. Returns the number of rows staged.
+    public long copyIntoStaging(Reader csv) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING, csv, 65536);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // Temporary tables are never auto-analyzed; the merge joins need real row counts.
+    public void analyzeStaging() {
+        jdbcTemplate.execute("ANALYZE tool_import");
+    }
+
+    public Optional<Long> findDuplicateId() {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM tool_import WHERE id IS NOT NULL " +
+                "GROUP BY id HAVING count(*) > 1 LIMIT 1", Long.class);
+        return ids.stream().findFirst();
+    }
+
+    // Rows whose id names an existing tool update it; returns how many did.
+    public int matchExistingTools() {
+        return jdbcTemplate.update("UPDATE tool_import s SET tool_id = t.id, existing = true FROM tools t WHERE t.id = s.id");
+    }
+
+    // All other rows become new tools, numbered in input order.
+    public int assignNewToolIds() {
+        return jdbcTemplate.update(ASSIGN_TOOL_IDS);
+    }
+
+    public void mergeTools() {
+        jdbcTemplate.update(UPDATE_TOOLS);
+        jdbcTemplate.update(INSERT_TOOLS);
+        jdbcTemplate.update("UPDATE tool_import s SET assessment_id = a.id FROM assessments a " +
+                "WHERE s.existing AND a.tool_id = s.tool_id");
+        jdbcTemplate.update(INSERT_ASSESSMENTS);
+    }
+
+    public void mergeScoresAndCategories() {
+        jdbcTemplate.update(MERGE_SCORES);
+        jdbcTemplate.update(MERGE_CATEGORIES);
+    }
+
+    // Changed assessments move their version and, through update_assessments_updated_at, the catalog watermark, as a
+    // PUT would; unchanged ones keep their ETags. Returns the number of existing tools that changed.
+    public int bumpChangedAssessments() {
+        return jdbcTemplate.update("UPDATE assessments a SET version = a.version + 1 FROM tool_import s " +
+                "WHERE s.existing AND s.changed AND a.id = s.assessment_id");
+    }
+
+    // CTEs giving every row of rows a new id in the given order: one nextval reserves a block of ID_BLOCK_SIZE ids,
+    // as it does for the entities' pooled-lo generators, where a serial default would spend a whole block per row.
+    // The ids end up in pooled, next to the row's columns.
+    private static String pooledIds(String sequence, String rows, String order) {
+        return "numbered AS (SELECT r.*, row_number() OVER (ORDER BY " + order + ") - 1 AS position " +
+                "FROM (" + rows + ") r), " +
+                "blocks AS (SELECT block, nextval('" + sequence + "') AS lo FROM generate_series(0, " +
+                "(SELECT (count(*) + " + (ID_BLOCK_SIZE - 1) + ") / " + ID_BLOCK_SIZE + " - 1 FROM numbered)) block), " +
+                "pooled AS (SELECT numbered.*, blocks.lo + numbered.position % " + ID_BLOCK_SIZE + " AS id " +
+                "FROM numbered JOIN blocks ON blocks.block = numbered.position / " + ID_BLOCK_SIZE + ")";
+    }
+}
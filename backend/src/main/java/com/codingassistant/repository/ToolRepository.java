@@ -1,10 +1,59 @@
 package com.codingassistant.repository;
 
+import com.codingassistant.dto.AssessmentVersionDTO;
+import com.codingassistant.dto.PerformanceDTO;
 import com.codingassistant.model.Tool;
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ToolRepository extends JpaRepository<Tool, Long> {
+public interface ToolRepository extends JpaRepository<Tool, Long>, ToolRepositoryCustom {
+
+    @Query("select t from Tool t " +
+            "left join fetch t.assessment a " +
+            "left join fetch a.assessmentScore " +
+            "left join fetch a.categories " +
+            "where t.id in :ids " +
+            "order by t.id")
+    List<Tool> findAllWithAssessmentByIdIn(@Param("ids") Collection<Long> ids);
+
+    // In id order, the order every other locking writer (PUT flushes, re-scoring chunks) takes them in.
+    @Query(value = "SELECT id FROM assessments WHERE tool_id IN (:toolIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAssessmentsByToolIdIn(@Param("toolIds") Collection<Long> toolIds);
+
+    @Query("select t from Tool t " +
+            "left join fetch t.assessment a " +
+            "left join fetch a.assessmentScore " +
+            "where t.id in :ids " +
+            "order by t.id")
+    List<Tool> findAllWithScoreByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select t from Tool t " +
+            "left join fetch t.assessment a " +
+            "left join fetch a.assessmentScore " +
+            "left join fetch a.categories " +
+            "where t.id = :id")
+    Optional<Tool> findWithAssessmentById(@Param("id") Long id);
+
+    @Query("select new com.codingassistant.dto.PerformanceDTO(" +
+            "t.id, t.name, s.total, s.acceleration, s.intelligence, s.experience, s.value) " +
+            "from Tool t " +
+            "join t.assessment a " +
+            "join a.assessmentScore s " +
+            "order by t.id")
+    List<PerformanceDTO> findAllPerformances();
+
+    @Query("select max(a.updatedAt) from Assessment a")
+    Optional<LocalDateTime> findLatestAssessmentUpdate();
 
-}
\ No newline at end of file
+    @Query("select new com.codingassistant.dto.AssessmentVersionDTO(a.version, a.updatedAt) "
+            + "from Assessment a where a.tool.id = :toolId")
+    Optional<AssessmentVersionDTO> findAssessmentVersionByToolId(@Param("toolId") Long toolId);
+}
@@ -0,0 +1,8 @@
+package com.codingassistant.repository;
+
+import java.util.List;
+
+public interface ToolRepositoryCustom {
+
+    List<Long> findIdsAfter(long afterId, String status, String category, int limit);
+}
@@ -0,0 +1,38 @@
+package com.codingassistant.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+public class ToolRepositoryImpl implements ToolRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Only the filters actually supplied end up in the statement, so each combination gets a plan
+    // that can use the matching (status, id) or (category, id) index.
+    @Override
+    public List<Long> findIdsAfter(long afterId, String status, String category, int limit) {
+        StringBuilder jpql = new StringBuilder("select t.id from Tool t where t.id > :afterId");
+        if (status != null) {
+            jpql.append(" and t.status = :status");
+        }
+        if (category != null) {
+            jpql.append(" and t.category = :category");
+        }
+        jpql.append(" order by t.id");
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (category != null) {
+            query.setParameter("category", category);
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.codingassistant.repository;
+
+import com.codingassistant.dto.ToolSearchResultDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class ToolSearchRepository {
+
+    // Matches come from the GIN index on note_search. A tool ranks by the sum of its matching notes' ts_rank, which
+    // is materialized before aggregating so the vectors are not dragged through the grouping; ts_rank_cd was several
+    // times slower for broad queries. Only the returned page is joined to tools, gets its best-matching note and runs
+    // ts_headline. The note is HTML-escaped first so the snippet is safe to render with its <mark> highlights.
+    private static final String SEARCH_QUERY =
+            "WITH q AS (SELECT websearch_to_tsquery('english', ?) AS query, ?::varchar AS category), " +
+            "hits AS MATERIALIZED (SELECT c.assessment_id, ts_rank(c.note_search, q.query) AS rank " +
+            "FROM assessment_categories c CROSS JOIN q " +
+            "WHERE c.note_search @@ q.query AND (q.category IS NULL OR c.name = q.category)), " +
+            "page AS (SELECT assessment_id, sum(rank) AS rank FROM hits GROUP BY assessment_id " +
+            "ORDER BY rank DESC, assessment_id LIMIT ?) " +
+            "SELECT a.tool_id, t.name, best.name AS category, page.rank, " +
+            "ts_headline('english', replace(replace(replace(public.note_search_text(best.note), '&', '&amp;'), " +
+            "'<', '&lt;'), '>', '&gt;'), q.query, " +
+            "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=25, MinWords=8, FragmentDelimiter=\" … \"') " +
+            "AS snippet " +
+            "FROM page CROSS JOIN q " +
+            "JOIN assessments a ON a.id = page.assessment_id " +
+            "JOIN tools t ON t.id = a.tool_id " +
+            "CROSS JOIN LATERAL (SELECT c.name, c.note FROM assessment_categories c " +
+            "WHERE c.assessment_id = page.assessment_id AND c.note_search @@ q.query " +
+            "AND (q.category IS NULL OR c.name = q.category) " +
+            "ORDER BY ts_rank(c.note_search, q.query) DESC, c.id LIMIT 1) best " +
+            "ORDER BY page.rank DESC, page.assessment_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ToolSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // query uses web search syntax ("quoted phrases", or, -excluded); category restricts to one assessment category.
+    public List<ToolSearchResultDTO> search(String query, String category, int limit) {
+        return jdbcTemplate.query(SEARCH_QUERY, (rs, rowNum) -> {
+            ToolSearchResultDTO result = new ToolSearchResultDTO();
+            result.setToolId(rs.getLong("tool_id"));
+            result.setName(rs.getString("name"));
+            result.setCategory(rs.getString("category"));
+            result.setRank(rs.getDouble("rank"));
+            result.setSnippet(rs.getString("snippet"));
+            return result;
+        }, query, category, limit);
+    }
+}
@@ -0,0 +1,180 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.AssessmentSnapshotDTO;
+import com.codingassistant.dto.PerformanceDTO;
+import com.codingassistant.event.ToolScoresUpdatedEvent;
+import com.codingassistant.repository.AssessmentHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Append-only score history. Every committed score change adds a snapshot to {@code assessment_history}, which is
+ * range-partitioned by month (UTC); partitions are created ahead of time here, and tools without any snapshot get a
+ * baseline from their current scores on startup. Once a month is over, every tool's last snapshot in it is rolled up
+ * into {@code assessment_history_monthly}, so an as-of leaderboard reads one month of closing snapshots plus the raw
+ * snapshots of its own month rather than the whole history. Per-tool history is downsampled to at most
+ * {@code scorecard.history.max-points} points.
+ */
+@Service
+public class AssessmentHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssessmentHistoryService.class);
+
+    private final AssessmentHistoryRepository assessmentHistoryRepository;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final TransactionTemplate transactionTemplate;
+    private final int premadeMonths;
+    private final int maxPoints;
+    private final boolean initialize;
+
+    @Autowired
+    public AssessmentHistoryService(AssessmentHistoryRepository assessmentHistoryRepository,
+                                    DatabaseBulkhead databaseBulkhead, PlatformTransactionManager transactionManager,
+                                    @Value("${scorecard.history.premade-months}") int premadeMonths,
+                                    @Value("${scorecard.history.max-points}") int maxPoints,
+                                    @Value("${scorecard.startup.initialize}") boolean initialize) {
+        this.assessmentHistoryRepository = assessmentHistoryRepository;
+        this.databaseBulkhead = databaseBulkhead;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.premadeMonths = premadeMonths;
+        this.maxPoints = maxPoints;
+        this.initialize = initialize;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!initialize) {
+            return;
+        }
+        databaseBulkhead.runInBackground(1, () -> {
+            createPartitions();
+            recordBaselines();
+            rollUpClosedMonths();
+        });
+    }
+
+    @Scheduled(cron = "${scorecard.history.maintenance-cron}")
+    public void maintain() {
+        databaseBulkhead.runInBackground(1, () -> {
+            createPartitions();
+            rollUpClosedMonths();
+        });
+    }
+
+    private void recordBaselines() {
+        List<YearMonth> baselineMonths = assessmentHistoryRepository.findBaselineMonths();
+        for (YearMonth month : baselineMonths) {
+            transactionTemplate.executeWithoutResult(status -> createPartition(month));
+        }
+        if (!baselineMonths.isEmpty()) {
+            YearMonth firstBaselineMonth = Collections.min(baselineMonths);
+            Integer baselines = transactionTemplate.execute(status -> {
+                assessmentHistoryRepository.deleteRollUpsFrom(firstBaselineMonth);
+                return assessmentHistoryRepository.recordBaselines();
+            });
+            logger.info("Recorded baseline history snapshots for {} tools", baselines);
+        }
+    }
+
+    // The current month plus the next few, so inserts never have to fall back to the default partition.
+    private void createPartitions() {
+        YearMonth month = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= premadeMonths; i++) {
+            YearMonth partitionMonth = month.plusMonths(i);
+            transactionTemplate.executeWithoutResult(status -> createPartition(partitionMonth));
+        }
+    }
+
+    // Snapshots are stamped with now(), so once a month is over its closing snapshots no longer change.
+    private void rollUpClosedMonths() {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        Optional<YearMonth> lastRolledUp = assessmentHistoryRepository.findLastRolledUpMonth();
+        YearMonth month = lastRolledUp.isPresent() ? lastRolledUp.get().plusMonths(1)
+                : assessmentHistoryRepository.findFirstMonth().orElse(currentMonth);
+        for (; month.isBefore(currentMonth); month = month.plusMonths(1)) {
+            YearMonth closedMonth = month;
+            Integer tools = transactionTemplate.execute(status -> assessmentHistoryRepository.rollUp(closedMonth));
+            logger.info("Rolled up assessment history of {} for {} tools", closedMonth, tools);
+        }
+    }
+
+    // Snapshots of one transaction go out as a single JDBC batch just before it commits, and not at all if it
+    // rolls back.
+    @EventListener
+    public void onToolScoresUpdated(ToolScoresUpdatedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            assessmentHistoryRepository.record(List.of(event.getPerformance()));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<PerformanceDTO> pending = (List<PerformanceDTO>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<PerformanceDTO> snapshots = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, snapshots);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    assessmentHistoryRepository.record(snapshots);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(AssessmentHistoryService.this);
+                }
+            });
+            pending = snapshots;
+        }
+        pending.add(event.getPerformance());
+    }
+
+    // Without from, the history starts at the tool's first snapshot.
+    public List<AssessmentSnapshotDTO> getHistory(long toolId, Instant from, Instant to) {
+        if (from != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        Instant start = from != null ? from : assessmentHistoryRepository.findFirstRecordedAt(toolId).orElse(null);
+        if (start == null) {
+            return List.of();
+        }
+        double bucketSeconds = Math.max(Duration.between(start, to).toMillis() / 1000.0 / maxPoints, 0.001);
+        return assessmentHistoryRepository.findHistory(toolId, start, to, bucketSeconds);
+    }
+
+    // Tools without a snapshot at asOf did not have scores yet and are left out.
+    public List<PerformanceDTO> getPerformancesAsOf(Instant asOf, LeaderboardSortKey sortKey, int limit) {
+        boolean previousMonthRolledUp = assessmentHistoryRepository.isRolledUp(
+                YearMonth.from(asOf.atZone(ZoneOffset.UTC)).minusMonths(1));
+        return assessmentHistoryRepository.findPerformancesAsOf(asOf, previousMonthRolledUp, sortKey, limit);
+    }
+
+    // Fails when the default partition already holds rows of that month; they stay there and are still queried.
+    private void createPartition(YearMonth month) {
+        try {
+            if (assessmentHistoryRepository.createMonthlyPartition(month)) {
+                logger.info("Created assessment history partition for {}", month);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not create assessment history partition for {}: {}", month, e.getMessage());
+        }
+    }
+}
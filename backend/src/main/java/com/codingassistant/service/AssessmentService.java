@@ -0,0 +1,157 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.*;
+import com.codingassistant.model.Assessment;
+import com.codingassistant.model.AssessmentCategory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+public class AssessmentService {
+
+    private static final String CATEGORY_SCORE_FORMAT = "{\"score\": %s }";
+    private static final String CATEGORY_NOTE_FORMAT = "{\"note\": \"%s\" }";
+    private final ObjectMapper objectMapper;
+    private final ScoringEngine scoringEngine;
+
+    @Autowired
+    public AssessmentService(ScoringEngine scoringEngine) {
+        this.objectMapper = new ObjectMapper();
+        this.scoringEngine = scoringEngine;
+    }
+
+    // Only fields whose value differs from the stored one are written, and the assessment is only marked updated
+    // (new version, updated_at) when something changed. Returns the changed fields, e.g. "acceleration.capabilities".
+    public List<String> applyScoresAndNotes(AssessmentScoresAndNotesDTO assessmentScoresAndNotesDTO, Assessment assessment) throws JsonProcessingException {
+        List<String> changes = new ArrayList<>();
+        updateScores(assessmentScoresAndNotesDTO.getScores(), assessment, changes);
+        updateNotes(assessmentScoresAndNotesDTO.getNotes(), assessment, changes);
+        if (!changes.isEmpty()) {
+            assessment.markUpdated();
+        }
+        return changes;
+    }
+
+    public List<String> applyScores(AssessmentScoreDTO assessmentScoreDTO, Assessment assessment) throws JsonProcessingException {
+        List<String> changes = new ArrayList<>();
+        updateScores(assessmentScoreDTO, assessment, changes);
+        if (!changes.isEmpty()) {
+            assessment.markUpdated();
+        }
+        return changes;
+    }
+
+    // The note column values updateNotes() would write, keyed by category name, for deferred writing.
+    public Map<String, String> categoryNotes(AssessmentNoteDTO assessmentNoteDTO) throws JsonProcessingException {
+        Map<String, String> notes = new LinkedHashMap<>();
+        notes.put("Acceleration", String.format(CATEGORY_NOTE_FORMAT,
+                objectMapper.writeValueAsString(assessmentNoteDTO.getAcceleration())));
+        notes.put("Intelligence", String.format(CATEGORY_NOTE_FORMAT,
+                objectMapper.writeValueAsString(assessmentNoteDTO.getIntelligence())));
+        notes.put("Experience", String.format(CATEGORY_NOTE_FORMAT,
+                objectMapper.writeValueAsString(assessmentNoteDTO.getExperience())));
+        notes.put("Value", String.format(CATEGORY_NOTE_FORMAT,
+                objectMapper.writeValueAsString(assessmentNoteDTO.getValue())));
+        return notes;
+    }
+
+    static String noteChange(String categoryName) {
+        return categoryName.toLowerCase(Locale.ROOT) + ".note";
+    }
+
+    void updateScores(AssessmentScoreDTO assessmentScoreDTO, Assessment assessment, List<String> changes) throws JsonProcessingException {
+        ScoringProfile profile = scoringEngine.getActiveProfile();
+        int totalScore = updateAccelerationScore(assessmentScoreDTO.getAcceleration(), profile, assessment, changes) +
+                updateIntelligenceScore(assessmentScoreDTO.getIntelligence(), profile, assessment, changes)  +
+                updateExperienceScore(assessmentScoreDTO.getExperience(), profile, assessment, changes) +
+                updateValueScore(assessmentScoreDTO.getValue(), profile, assessment, changes);
+        // Equal values leave the entity clean, so unchanged score rows are not updated.
+        assessment.getAssessmentScore().setTotal(totalScore);
+    }
+
+    void updateNotes(AssessmentNoteDTO assessmentNoteDTO, Assessment assessment, List<String> changes) throws JsonProcessingException {
+        for (Map.Entry<String, String> note : categoryNotes(assessmentNoteDTO).entrySet()) {
+            AssessmentCategory category = getCategoryByName(note.getKey(), assessment.getCategories());
+            if (!note.getValue().equals(category.getNote())) {
+                category.setNote(note.getValue());
+                changes.add(noteChange(note.getKey()));
+            }
+        }
+    }
+
+    private int updateAccelerationScore(AccelerationScoreDTO accelerationScoreDTO, ScoringProfile profile, Assessment assessment, List<String> changes) throws JsonProcessingException {
+        int iterationSize = accelerationScoreDTO.getIterationSize();
+        int iterationSpeed = accelerationScoreDTO.getIterationSpeed();
+        int capabilities = accelerationScoreDTO.getCapabilities();
+        int accelerationScore = profile.acceleration(capabilities, iterationSize, iterationSpeed);
+        assessment.getAssessmentScore().setAcceleration(accelerationScore);
+        updateCategoryScore("Acceleration", accelerationScoreDTO, assessment, changes);
+        return accelerationScore;
+    }
+
+    private int updateIntelligenceScore(IntelligenceScoreDTO intelligenceScoreDTO, ScoringProfile profile, Assessment assessment, List<String> changes) throws JsonProcessingException {
+        int contextAwareness = intelligenceScoreDTO.getContextAwareness();
+        int outputQuality = intelligenceScoreDTO.getOutputQuality();
+        int autonomy = intelligenceScoreDTO.getAutonomy();
+        int intelligenceScore = profile.intelligence(autonomy, outputQuality, contextAwareness);
+        assessment.getAssessmentScore().setIntelligence(intelligenceScore);
+        updateCategoryScore("Intelligence", intelligenceScoreDTO, assessment, changes);
+        return intelligenceScore;
+    }
+
+    private int updateExperienceScore(ExperienceScoreDTO experienceScoreDTO, ScoringProfile profile, Assessment assessment, List<String> changes) throws JsonProcessingException {
+        int easeOfUse = experienceScoreDTO.getEaseOfUse();
+        int flexibility = experienceScoreDTO.getFlexibility();
+        int reliability = experienceScoreDTO.getReliability();
+        int experienceScore = profile.experience(easeOfUse, flexibility, reliability);
+        assessment.getAssessmentScore().setExperience(experienceScore);
+        updateCategoryScore("Experience", experienceScoreDTO, assessment, changes);
+        return experienceScore;
+    }
+
+    private int updateValueScore(ValueScoreDTO valueScoreDTO, ScoringProfile profile, Assessment assessment, List<String> changes) throws JsonProcessingException {
+        int valueScore = profile.value(valueScoreDTO.getValue());
+        assessment.getAssessmentScore().setValue(valueScore);
+        updateCategoryScore("Value", valueScoreDTO, assessment, changes);
+        return valueScore;
+    }
+
+    // The stored score is jsonb, which PostgreSQL hands back re-formatted, so the sub-scores are compared as JSON
+    // trees rather than as strings.
+    private void updateCategoryScore(String categoryName, Object scoreDTO, Assessment assessment, List<String> changes) throws JsonProcessingException {
+        AssessmentCategory category = getCategoryByName(categoryName, assessment.getCategories());
+        JsonNode incoming = objectMapper.valueToTree(scoreDTO);
+        JsonNode stored = category.getScore() == null ? MissingNode.getInstance()
+                : objectMapper.readTree(category.getScore()).path("score");
+        String prefix = categoryName.toLowerCase(Locale.ROOT) + ".";
+        int changesBefore = changes.size();
+        Iterator<Map.Entry<String, JsonNode>> fields = incoming.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().equals(stored.path(field.getKey()))) {
+                changes.add(prefix + field.getKey());
+            }
+        }
+        if (changes.size() > changesBefore) {
+            category.setScore(String.format(CATEGORY_SCORE_FORMAT, objectMapper.writeValueAsString(incoming)));
+        }
+    }
+
+    static AssessmentCategory getCategoryByName(String categoryName, List<AssessmentCategory> assessmentCategories) {
+        return assessmentCategories.stream()
+                .filter(c -> c.getName().equals(categoryName))
+                .findFirst()
+                .orElse(new AssessmentCategory());
+    }
+}
@@ -0,0 +1,21 @@
+package com.codingassistant.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks service methods that need a pooled connection; calls to them are admitted through DatabaseBulkhead.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DatabaseAccess {
+
+    Budget value() default Budget.REQUEST;
+
+    // The share of the pool a call draws on. BULK is for exports and imports, which hold a connection for as long
+    // as the transfer takes.
+    enum Budget {
+        REQUEST,
+        BULK
+    }
+}
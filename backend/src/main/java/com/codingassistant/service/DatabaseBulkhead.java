@@ -0,0 +1,211 @@
+package com.codingassistant.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Splits the connection pool into three budgets so that no caller can end up blocking on Hikari's connection-timeout.
+ * <ul>
+ * <li>{@code bulk-connections} are for {@link DatabaseAccess.Budget#BULK} calls (exports and imports). A bulk call
+ * that finds them all taken is shed right away, since the one holding them may stream for minutes.</li>
+ * <li>{@code background-connections} are for jobs run through {@link #runInBackground}: re-scoring, note flushes
+ * and history maintenance. These wait as long as it takes.</li>
+ * <li>Requests get one permit per remaining connection. Callers beyond that wait in a bounded FIFO queue for up to
+ * {@code max-wait}. When the queue is full or the wait runs out, the call is shed with {@link BulkheadFullException}
+ * (503 + Retry-After).</li>
+ * </ul>
+ */
+@Component
+public class DatabaseBulkhead implements MethodInterceptor {
+
+    private final Semaphore permits;
+    private final Semaphore bulkPermits;
+    private final Semaphore backgroundPermits;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger backgroundQueued = new AtomicInteger();
+    // Nested calls on the same thread reuse the outer permit instead of deadlocking on a second one.
+    private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+    private final Counter rejectedBulkBusy;
+    private final Timer waitTimer;
+
+    @Autowired
+    public DatabaseBulkhead(@Value("${spring.datasource.hikari.maximum-pool-size}") int poolSize,
+                            @Value("${scorecard.bulkhead.bulk-connections}") int bulkConnections,
+                            @Value("${scorecard.bulkhead.background-connections}") int backgroundConnections,
+                            @Value("${scorecard.bulkhead.max-queued}") int maxQueued,
+                            @Value("${scorecard.bulkhead.max-wait}") Duration maxWait,
+                            @Value("${scorecard.bulkhead.retry-after}") Duration retryAfter,
+                            MeterRegistry meterRegistry) {
+        int maxConcurrent = poolSize - bulkConnections - backgroundConnections;
+        if (maxConcurrent < 1 || bulkConnections < 1 || backgroundConnections < RescoreJobService.CONNECTIONS) {
+            throw new IllegalStateException("A pool of " + poolSize + " connections cannot be split into " +
+                    bulkConnections + " bulk (at least one), " + backgroundConnections + " background (at least " +
+                    RescoreJobService.CONNECTIONS + ") and at least one request connection");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.bulkPermits = new Semaphore(bulkConnections);
+        this.backgroundPermits = new Semaphore(backgroundConnections, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+
+        registerGauges(meterRegistry, "request", permits, maxConcurrent, queued);
+        registerGauges(meterRegistry, "bulk", bulkPermits, bulkConnections, null);
+        registerGauges(meterRegistry, "background", backgroundPermits, backgroundConnections, backgroundQueued);
+        this.rejectedQueueFull = Counter.builder("scorecard.bulkhead.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.rejectedTimeout = Counter.builder("scorecard.bulkhead.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        this.rejectedBulkBusy = Counter.builder("scorecard.bulkhead.rejected")
+                .tag("reason", "bulk_busy")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("scorecard.bulkhead.wait")
+                .description("Time spent waiting for a bulkhead permit")
+                .register(meterRegistry);
+    }
+
+    private static void registerGauges(MeterRegistry meterRegistry, String budget, Semaphore budgetPermits,
+                                       int limit, AtomicInteger waiting) {
+        Gauge.builder("scorecard.bulkhead.active", budgetPermits, p -> limit - p.availablePermits())
+                .description("Database calls currently holding a bulkhead permit")
+                .tag("budget", budget)
+                .register(meterRegistry);
+        Gauge.builder("scorecard.bulkhead.limit", () -> limit)
+                .description("Maximum concurrent database calls")
+                .tag("budget", budget)
+                .register(meterRegistry);
+        if (waiting != null) {
+            Gauge.builder("scorecard.bulkhead.queued", waiting, AtomicInteger::get)
+                    .description("Database calls waiting for a bulkhead permit")
+                    .tag("budget", budget)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (holdsPermit.get()) {
+            return invocation.proceed();
+        }
+        DatabaseAccess access = AnnotationUtils.findAnnotation(invocation.getMethod(), DatabaseAccess.class);
+        Semaphore budget = access != null && access.value() == DatabaseAccess.Budget.BULK ? bulkPermits : permits;
+        if (budget == bulkPermits) {
+            acquireBulk();
+        } else {
+            acquire();
+        }
+        holdsPermit.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            holdsPermit.remove();
+            budget.release();
+        }
+    }
+
+    /**
+     * Admits request-path work that reaches the database outside a {@link DatabaseAccess} method, such as a
+     * leaderboard reload, the same way as a call to one.
+     */
+    public <T> T call(Supplier<T> work) {
+        if (holdsPermit.get()) {
+            return work.get();
+        }
+        try {
+            acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("Interrupted while waiting for the database", retryAfter);
+        }
+        holdsPermit.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            holdsPermit.remove();
+            permits.release();
+        }
+    }
+
+    // Background work is never shed; it waits until the given number of background connections are free.
+    public void runInBackground(int connections, Runnable work) {
+        callInBackground(connections, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> T callInBackground(int connections, Supplier<T> work) {
+        if (holdsPermit.get()) {
+            return work.get();
+        }
+        backgroundQueued.incrementAndGet();
+        try {
+            backgroundPermits.acquireUninterruptibly(connections);
+        } finally {
+            backgroundQueued.decrementAndGet();
+        }
+        holdsPermit.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            holdsPermit.remove();
+            backgroundPermits.release(connections);
+        }
+    }
+
+    private void acquire() throws InterruptedException {
+        if (permits.tryAcquire()) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejectedQueueFull.increment();
+            throw new BulkheadFullException("Too many requests waiting for the database", retryAfter);
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejectedTimeout.increment();
+                throw new BulkheadFullException("Timed out waiting for the database", retryAfter);
+            }
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void acquireBulk() {
+        if (!bulkPermits.tryAcquire()) {
+            rejectedBulkBusy.increment();
+            throw new BulkheadFullException("Another export or import is running", retryAfter);
+        }
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+}
@@ -0,0 +1,191 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.LeaderboardDTO;
+import com.codingassistant.dto.PerformanceDTO;
+import com.codingassistant.event.ToolScoresUpdatedEvent;
+import com.codingassistant.repository.ToolRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps one ranking per {@link LeaderboardSortKey}, sorted once on load and then patched in place as scores
+ * change. Reads are lock-free against an immutable snapshot and only copy the requested prefix.
+ */
+@Component
+public class Leaderboard {
+
+    private final ToolRepository toolRepository;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final long maxAgeNanos;
+    // A ReentrantLock rather than synchronized: reload() runs a query while holding it, and a virtual thread
+    // blocking inside a synchronized block would pin its carrier thread.
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public Leaderboard(ToolRepository toolRepository, DatabaseBulkhead databaseBulkhead,
+                       @Value("${scorecard.leaderboard.max-age}") Duration maxAge) {
+        this.toolRepository = toolRepository;
+        this.databaseBulkhead = databaseBulkhead;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public LeaderboardDTO top(LeaderboardSortKey sortKey, int limit) {
+        Snapshot current = currentSnapshot();
+        PerformanceDTO[] ranking = current.rankings.get(sortKey);
+        int[] ranks = current.ranks.get(sortKey);
+        int size = Math.min(limit, ranking.length);
+        List<PerformanceDTO> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(ranked(ranking[i], ranks[i]));
+        }
+        return new LeaderboardDTO(result, current.lastModified);
+    }
+
+    @TransactionalEventListener
+    public void onToolScoresUpdated(ToolScoresUpdatedEvent event) {
+        update(event.getPerformance(), event.getUpdatedAt());
+    }
+
+    public void invalidate() {
+        lock.lock();
+        try {
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(PerformanceDTO performance, LocalDateTime updatedAt) {
+        lock.lock();
+        try {
+            Snapshot current = snapshot;
+            if (current != null) {
+                snapshot = current.with(performance, updatedAt);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.loadedAt > maxAgeNanos) {
+            current = reload(current);
+        }
+        return current;
+    }
+
+    // Only the thread doing the reload takes a bulkhead permit; the others wait on the lock without one. The watermark
+    // is read before the scores, so a change committed in between can leave it behind the scores but never ahead.
+    private Snapshot reload(Snapshot stale) {
+        lock.lock();
+        try {
+            if (snapshot == stale) {
+                snapshot = databaseBulkhead.call(() -> {
+                    LocalDateTime lastModified = toolRepository.findLatestAssessmentUpdate().orElse(null);
+                    return Snapshot.of(toolRepository.findAllPerformances(), lastModified, System.nanoTime());
+                });
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static PerformanceDTO ranked(PerformanceDTO performance, int rank) {
+        PerformanceDTO rankedPerformance = new PerformanceDTO(performance.getId(), performance.getName(),
+                performance.getTotal(), performance.getAcceleration(), performance.getIntelligence(),
+                performance.getExperience(), performance.getValue());
+        rankedPerformance.setRank(rank);
+        return rankedPerformance;
+    }
+
+    // Competition ranking: tied scores share a rank and the next distinct score skips ahead.
+    static int[] ranks(PerformanceDTO[] ranking, LeaderboardSortKey sortKey) {
+        int[] ranks = new int[ranking.length];
+        for (int i = 0; i < ranking.length; i++) {
+            boolean tied = i > 0 && sortKey.score(ranking[i]) == sortKey.score(ranking[i - 1]);
+            ranks[i] = tied ? ranks[i - 1] : i + 1;
+        }
+        return ranks;
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, PerformanceDTO> byId;
+        private final Map<LeaderboardSortKey, PerformanceDTO[]> rankings;
+        private final Map<LeaderboardSortKey, int[]> ranks;
+        private final LocalDateTime lastModified;
+        private final long loadedAt;
+
+        private Snapshot(Map<Long, PerformanceDTO> byId, Map<LeaderboardSortKey, PerformanceDTO[]> rankings,
+                         Map<LeaderboardSortKey, int[]> ranks, LocalDateTime lastModified, long loadedAt) {
+            this.byId = byId;
+            this.rankings = rankings;
+            this.ranks = ranks;
+            this.lastModified = lastModified;
+            this.loadedAt = loadedAt;
+        }
+
+        static Snapshot of(List<PerformanceDTO> performances, LocalDateTime lastModified, long loadedAt) {
+            Map<Long, PerformanceDTO> byId = new HashMap<>();
+            performances.forEach(performance -> byId.put(performance.getId(), performance));
+            Map<LeaderboardSortKey, PerformanceDTO[]> rankings = new EnumMap<>(LeaderboardSortKey.class);
+            Map<LeaderboardSortKey, int[]> ranks = new EnumMap<>(LeaderboardSortKey.class);
+            for (LeaderboardSortKey sortKey : LeaderboardSortKey.values()) {
+                PerformanceDTO[] ranking = performances.toArray(new PerformanceDTO[0]);
+                Arrays.sort(ranking, sortKey.comparator());
+                rankings.put(sortKey, ranking);
+                ranks.put(sortKey, ranks(ranking, sortKey));
+            }
+            return new Snapshot(byId, rankings, ranks, lastModified, loadedAt);
+        }
+
+        Snapshot with(PerformanceDTO performance, LocalDateTime updatedAt) {
+            Map<Long, PerformanceDTO> nextById = new HashMap<>(byId);
+            PerformanceDTO previous = nextById.put(performance.getId(), performance);
+            Map<LeaderboardSortKey, PerformanceDTO[]> nextRankings = new EnumMap<>(LeaderboardSortKey.class);
+            Map<LeaderboardSortKey, int[]> nextRanks = new EnumMap<>(LeaderboardSortKey.class);
+            for (LeaderboardSortKey sortKey : LeaderboardSortKey.values()) {
+                PerformanceDTO[] ranking = replace(rankings.get(sortKey), previous, performance, sortKey.comparator());
+                nextRankings.put(sortKey, ranking);
+                nextRanks.put(sortKey, ranks(ranking, sortKey));
+            }
+            // Strictly later than before even when this JVM's clock is behind the database's, so every patch moves
+            // the ETag.
+            LocalDateTime floor = lastModified == null ? updatedAt : lastModified.plus(1, ChronoUnit.MICROS);
+            return new Snapshot(nextById, nextRankings, nextRanks, updatedAt.isAfter(floor) ? updatedAt : floor, loadedAt);
+        }
+
+        private static PerformanceDTO[] replace(PerformanceDTO[] ranking, PerformanceDTO previous,
+                                                PerformanceDTO performance, Comparator<PerformanceDTO> comparator) {
+            PerformanceDTO[] remaining = ranking;
+            if (previous != null) {
+                int index = Arrays.binarySearch(ranking, previous, comparator);
+                remaining = new PerformanceDTO[ranking.length - 1];
+                System.arraycopy(ranking, 0, remaining, 0, index);
+                System.arraycopy(ranking, index + 1, remaining, index, ranking.length - index - 1);
+            }
+            int insertionPoint = -Arrays.binarySearch(remaining, performance, comparator) - 1;
+            PerformanceDTO[] next = new PerformanceDTO[remaining.length + 1];
+            System.arraycopy(remaining, 0, next, 0, insertionPoint);
+            next[insertionPoint] = performance;
+            System.arraycopy(remaining, insertionPoint, next, insertionPoint + 1, remaining.length - insertionPoint);
+            return next;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.PerformanceDTO;
+
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+public enum LeaderboardSortKey {
+    TOTAL(PerformanceDTO::getTotal),
+    INTELLIGENCE(PerformanceDTO::getIntelligence),
+    ACCELERATION(PerformanceDTO::getAcceleration),
+    EXPERIENCE(PerformanceDTO::getExperience),
+    VALUE(PerformanceDTO::getValue);
+
+    private final ToIntFunction<PerformanceDTO> scoreExtractor;
+    private final Comparator<PerformanceDTO> comparator;
+
+    LeaderboardSortKey(ToIntFunction<PerformanceDTO> scoreExtractor) {
+        this.scoreExtractor = scoreExtractor;
+        this.comparator = Comparator.comparingInt(scoreExtractor).reversed()
+                .thenComparingLong(PerformanceDTO::getId);
+    }
+
+    public int score(PerformanceDTO performance) {
+        return scoreExtractor.applyAsInt(performance);
+    }
+
+    public Comparator<PerformanceDTO> comparator() {
+        return comparator;
+    }
+
+    public static LeaderboardSortKey fromParameter(String value) {
+        for (LeaderboardSortKey key : values()) {
+            if (key.name().equalsIgnoreCase(value)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sortBy: " + value);
+    }
+}
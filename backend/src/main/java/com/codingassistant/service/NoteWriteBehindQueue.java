@@ -0,0 +1,554 @@
+package com.codingassistant.service;
+
+import com.codingassistant.config.CacheConfiguration;
+import com.codingassistant.dto.AssessmentVersionDTO;
+import com.codingassistant.model.Assessment;
+import com.codingassistant.model.AssessmentCategory;
+import com.codingassistant.model.Tool;
+import com.codingassistant.repository.ToolRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Optional write-behind path for assessment notes ({@code scorecard.notes.write-behind.enabled}).
+ * <p>
+ * A PUT commits its scores and the assessment's new version synchronously and leaves the four category notes here.
+ * Only the latest edit per tool/category is kept, ordered by the assessment version that committed it, reads show
+ * pending notes in place of the stored ones, and pending notes are written in batches by {@link #flush()}. Every edit
+ * is appended and fsynced to a local log before its transaction commits and only becomes pending once it has. On
+ * startup the log is replayed, dropping records whose version the assessment never reached (their transaction did
+ * not commit), so a committed note survives a crash at any point. The log is compacted down to the pending and
+ * not yet committed edits after each flush. When the queue is full, new tools are refused with a 503 rather than
+ * written synchronously, since a synchronous write could be overtaken by an older queued note.
+ */
+@Component
+public class NoteWriteBehindQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(NoteWriteBehindQueue.class);
+
+    private final ToolRepository toolRepository;
+    private final CacheManager cacheManager;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean initialize;
+    private final int maxPending;
+    private final int batchSize;
+    private final Path logFile;
+    private final Duration retryAfter;
+
+    private final Map<NoteKey, PendingNote> pending = new ConcurrentHashMap<>();
+    // Records logged by transactions that have not completed yet; compaction keeps them.
+    private final Set<List<LogRecord>> unsettled = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Guards the log file, unsettled and every change to pending that the log has to reflect.
+    private final ReentrantLock logLock = new ReentrantLock();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final ExecutorService flusher = Executors.newVirtualThreadPerTaskExecutor();
+    private FileChannel log;
+
+    private final Counter coalesced;
+    private final Counter flushed;
+    private final Counter flushFailures;
+    private final Counter rejected;
+    private final Timer flushTimer;
+
+    @Autowired
+    public NoteWriteBehindQueue(ToolRepository toolRepository, CacheManager cacheManager,
+                                DatabaseBulkhead databaseBulkhead, PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                @Value("${scorecard.notes.write-behind.enabled}") boolean enabled,
+                                @Value("${scorecard.notes.write-behind.max-pending}") int maxPending,
+                                @Value("${scorecard.notes.write-behind.batch-size}") int batchSize,
+                                @Value("${scorecard.notes.write-behind.log-file}") Path logFile,
+                                @Value("${scorecard.notes.write-behind.retry-after}") Duration retryAfter,
+                                @Value("${scorecard.startup.initialize}") boolean initialize,
+                                MeterRegistry meterRegistry) {
+        this.toolRepository = toolRepository;
+        this.cacheManager = cacheManager;
+        this.databaseBulkhead = databaseBulkhead;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.logFile = logFile;
+        this.retryAfter = retryAfter;
+        this.initialize = initialize;
+
+        Gauge.builder("scorecard.notes.pending", pending, Map::size)
+                .description("Category notes waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("scorecard.notes.lag", this, NoteWriteBehindQueue::lagSeconds)
+                .description("Age of the oldest note waiting to be written")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("scorecard.notes.coalesced")
+                .description("Queued notes replaced by a newer edit before they were written")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("scorecard.notes.flushed")
+                .description("Category notes written by the write-behind flush")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("scorecard.notes.flush.failures")
+                .description("Write-behind flushes that failed and will be retried")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("scorecard.notes.rejected")
+                .description("Note edits refused because the write-behind queue was full")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("scorecard.notes.flush")
+                .description("Time to write one batch of queued notes")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void recover() throws IOException {
+        if (!enabled || !initialize) {
+            return;
+        }
+        if (logFile.getParent() != null) {
+            Files.createDirectories(logFile.getParent());
+        }
+        if (Files.exists(logFile)) {
+            List<LogRecord> records = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        records.add(objectMapper.readValue(line, LogRecord.class));
+                    } catch (IOException e) {
+                        // Only the tail can be torn, by a crash in the middle of an append that was never acknowledged.
+                        logger.warn("Ignoring unreadable note log record in {}: {}", logFile, e.getMessage());
+                    }
+                }
+            }
+            List<LogRecord> committed = databaseBulkhead.callInBackground(1, () -> committed(records));
+            // Uncommitted records are dropped before coalescing, so none can displace an older committed edit.
+            for (LogRecord record : committed) {
+                put(new NoteKey(record.getToolId(), record.getCategory()),
+                        new PendingNote(record.getVersion(), record.getNote(), System.nanoTime()));
+            }
+            logger.info("Replayed {} note edits ({} pending, {} never committed) from {}", records.size(),
+                    pending.size(), records.size() - committed.size(), logFile);
+        }
+        logLock.lock();
+        try {
+            compact();
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    /**
+     * Queues the notes of an assessment that the current transaction is updating, skipping those equal to what is
+     * already pending or stored. The notes are written to the local log before that transaction commits, and queued
+     * only once it has.
+     *
+     * @return the changed notes, named as in {@link AssessmentService#applyScoresAndNotes}
+     * @throws BulkheadFullException if the queue is full and this tool has nothing pending to coalesce with
+     */
+    public List<String> submit(Assessment assessment, Map<String, String> categoryNotes) {
+        Long toolId = assessment.getTool().getId();
+        Map<String, String> changed = new LinkedHashMap<>();
+        boolean coalesces = true;
+        for (Map.Entry<String, String> note : categoryNotes.entrySet()) {
+            PendingNote pendingNote = pending.get(new NoteKey(toolId, note.getKey()));
+            String current = pendingNote != null ? pendingNote.note
+                    : AssessmentService.getCategoryByName(note.getKey(), assessment.getCategories()).getNote();
+            if (!note.getValue().equals(current)) {
+                changed.put(note.getKey(), note.getValue());
+                coalesces &= pendingNote != null;
+            }
+        }
+        if (changed.isEmpty()) {
+            return List.of();
+        }
+        // Edits of notes that are already pending coalesce and never grow the queue.
+        if (pending.size() >= maxPending && !coalesces) {
+            rejected.increment();
+            throw new BulkheadFullException("Too many notes waiting to be written", retryAfter);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private List<LogRecord> records;
+
+            // Flushed first, so the version is the one this transaction commits; it orders this edit against any
+            // other edit of the same assessment. A failed append rolls the transaction back.
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                toolRepository.flush();
+                records = log(toolId, assessment.getVersion(), changed);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (records != null) {
+                    settle(records, status == STATUS_COMMITTED);
+                }
+            }
+        });
+        List<String> changes = new ArrayList<>(changed.size());
+        changed.keySet().forEach(category -> changes.add(AssessmentService.noteChange(category)));
+        return changes;
+    }
+
+    private List<LogRecord> log(Long toolId, Long version, Map<String, String> categoryNotes) {
+        List<LogRecord> records = new ArrayList<>(categoryNotes.size());
+        categoryNotes.forEach((category, note) -> records.add(new LogRecord(toolId, category, version, note)));
+        logLock.lock();
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (LogRecord record : records) {
+                lines.append(objectMapper.writeValueAsString(record)).append('\n');
+            }
+            append(lines.toString());
+            unsettled.add(records);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to note log " + logFile, e);
+        } finally {
+            logLock.unlock();
+        }
+        return records;
+    }
+
+    // A rolled-back edit is compacted out of the log right away; one that committed becomes pending.
+    private void settle(List<LogRecord> records, boolean committed) {
+        long now = System.nanoTime();
+        logLock.lock();
+        try {
+            unsettled.remove(records);
+            if (committed) {
+                for (LogRecord record : records) {
+                    put(new NoteKey(record.getToolId(), record.getCategory()),
+                            new PendingNote(record.getVersion(), record.getNote(), now));
+                }
+            } else {
+                compact();
+            }
+        } catch (IOException e) {
+            // Replay drops the record anyway, since the assessment never reaches its version.
+            logger.warn("Could not compact note log {} after a rollback: {}", logFile, e.getMessage());
+        } finally {
+            logLock.unlock();
+        }
+        if (committed && pending.size() >= batchSize) {
+            triggerFlush();
+        }
+    }
+
+    // The records whose assessment has reached their version, i.e. whose transaction committed.
+    private List<LogRecord> committed(List<LogRecord> records) {
+        Map<Long, Long> storedVersions = new HashMap<>();
+        List<LogRecord> committed = new ArrayList<>(records.size());
+        for (LogRecord record : records) {
+            long stored = storedVersions.computeIfAbsent(record.getToolId(), toolId -> toolRepository
+                    .findAssessmentVersionByToolId(toolId).map(AssessmentVersionDTO::getVersion).orElse(-1L));
+            if (record.getVersion() <= stored) {
+                committed.add(record);
+            }
+        }
+        return committed;
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    // The queued note for this tool/category, or null when the stored one is current.
+    public String getPendingNote(Long toolId, String category) {
+        PendingNote note = pending.get(new NoteKey(toolId, category));
+        return note != null ? note.note : null;
+    }
+
+    private void put(NoteKey key, PendingNote note) {
+        pending.merge(key, note, (current, candidate) -> {
+            coalesced.increment();
+            return candidate.version >= current.version ? candidate : current;
+        });
+    }
+
+    public void triggerFlush() {
+        if (!pending.isEmpty() && !flushing.get()) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scorecard.notes.write-behind.flush-interval}")
+    public void flush() {
+        if (!enabled || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (!pending.isEmpty()) {
+                Map<NoteKey, PendingNote> batch = nextBatch();
+                boolean written = databaseBulkhead.callInBackground(1, () -> flushTimer.record(() -> write(batch)));
+                if (!written) {
+                    break;
+                }
+                logLock.lock();
+                try {
+                    // A newer edit that arrived during the write stays queued.
+                    batch.forEach(pending::remove);
+                    compact();
+                } finally {
+                    logLock.unlock();
+                }
+                flushed.increment(batch.size());
+                evict(batch);
+            }
+        } catch (IOException e) {
+            logger.error("Could not compact note log {}", logFile, e);
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    private Map<NoteKey, PendingNote> nextBatch() {
+        Map<NoteKey, PendingNote> batch = new HashMap<>();
+        Set<Long> toolIds = new HashSet<>();
+        for (Map.Entry<NoteKey, PendingNote> entry : pending.entrySet()) {
+            if (toolIds.size() >= batchSize && !toolIds.contains(entry.getKey().toolId)) {
+                continue;
+            }
+            toolIds.add(entry.getKey().toolId);
+            batch.put(entry.getKey(), entry.getValue());
+        }
+        return batch;
+    }
+
+    // Only the note columns are written: the PUT that queued a note already gave its assessment the new version and
+    // updated_at, so the ETag it returned stays valid once the note lands.
+    private boolean write(Map<NoteKey, PendingNote> batch) {
+        Map<Long, Map<String, String>> notesByTool = new HashMap<>();
+        batch.forEach((key, note) -> notesByTool.computeIfAbsent(key.toolId, id -> new HashMap<>())
+                .put(key.category, note.note));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Tool tool : toolRepository.findAllWithAssessmentByIdIn(notesByTool.keySet())) {
+                    Assessment assessment = tool.getAssessment();
+                    notesByTool.get(tool.getId()).forEach((category, note) -> {
+                        AssessmentCategory assessmentCategory =
+                                AssessmentService.getCategoryByName(category, assessment.getCategories());
+                        assessmentCategory.setNote(note);
+                    });
+                }
+            });
+            return true;
+        } catch (DataAccessException e) {
+            flushFailures.increment();
+            logger.warn("Writing {} queued notes failed, will retry: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void evict(Map<NoteKey, PendingNote> batch) {
+        Cache toolCache = cacheManager.getCache(CacheConfiguration.TOOL_CACHE);
+        if (toolCache != null) {
+            batch.keySet().forEach(key -> toolCache.evict(key.toolId));
+        }
+        Cache toolsCache = cacheManager.getCache(CacheConfiguration.TOOLS_CACHE);
+        if (toolsCache != null) {
+            toolsCache.clear();
+        }
+    }
+
+    private void append(String records) throws IOException {
+        if (log == null) {
+            log = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(records.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            log.write(buffer);
+        }
+        log.force(false);
+    }
+
+    // Rewrites the log to hold exactly the pending and unsettled edits; the rename only happens once the new file is on
+    // disk.
+    private void compact() throws IOException {
+        Path compacted = logFile.resolveSibling(logFile.getFileName() + ".compact");
+        List<String> records = new ArrayList<>(pending.size());
+        for (Map.Entry<NoteKey, PendingNote> entry : pending.entrySet()) {
+            records.add(objectMapper.writeValueAsString(new LogRecord(entry.getKey().toolId,
+                    entry.getKey().category, entry.getValue().version, entry.getValue().note)));
+        }
+        for (List<LogRecord> logged : unsettled) {
+            for (LogRecord record : logged) {
+                records.add(objectMapper.writeValueAsString(record));
+            }
+        }
+        try (FileChannel channel = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(records.isEmpty() ? new byte[0]
+                    : (String.join("\n", records) + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        if (log != null) {
+            log.close();
+            log = null;
+        }
+        Files.move(compacted, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private double lagSeconds() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingNote note : pending.values()) {
+            oldest = Math.min(oldest, note.queuedAt);
+        }
+        return oldest == Long.MAX_VALUE ? 0 : (System.nanoTime() - oldest) / 1e9;
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        flusher.shutdown();
+        if (!enabled) {
+            return;
+        }
+        // Best effort; whatever is left is replayed from the log on the next start.
+        flush();
+        logLock.lock();
+        try {
+            if (log != null) {
+                log.close();
+                log = null;
+            }
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private static final class NoteKey {
+        private final Long toolId;
+        private final String category;
+
+        private NoteKey(Long toolId, String category) {
+            this.toolId = toolId;
+            this.category = category;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof NoteKey other && toolId.equals(other.toolId) && category.equals(other.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(toolId, category);
+        }
+    }
+
+    private static final class PendingNote {
+        private final long version;
+        private final String note;
+        private final long queuedAt;
+
+        private PendingNote(long version, String note, long queuedAt) {
+            this.version = version;
+            this.note = note;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+    // One line of the note log.
+    static final class LogRecord {
+        private Long toolId;
+        private String category;
+        private long version;
+        private String note;
+
+        LogRecord() {
+        }
+
+        LogRecord(Long toolId, String category, long version, String note) {
+            this.toolId = toolId;
+            this.category = category;
+            this.version = version;
+            this.note = note;
+        }
+
+        public Long getToolId() {
+            return toolId;
+        }
+
+        public void setToolId(Long toolId) {
+            this.toolId = toolId;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public void setCategory(String category) {
+            this.category = category;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public void setVersion(long version) {
+            this.version = version;
+        }
+
+        public String getNote() {
+            return note;
+        }
+
+        public void setNote(String note) {
+            this.note = note;
+        }
+    }
+}
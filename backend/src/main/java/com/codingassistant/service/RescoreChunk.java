@@ -0,0 +1,42 @@
+package com.codingassistant.service;
+
+/**
+ * One keyset chunk of a re-scoring job: the chunk's sub-scores plus the assessment version each tool was read
+ * at, so the write-back can skip tools that a concurrent PUT has changed in the meantime.
+ */
+public final class RescoreChunk {
+
+    private final SubScoreMatrix matrix;
+    private final long[] assessmentVersions;
+
+    public RescoreChunk(int capacity) {
+        this.matrix = new SubScoreMatrix(capacity);
+        this.assessmentVersions = new long[capacity];
+    }
+
+    // Returns the offset of the tool's sub-score row in matrix().subScores().
+    public int add(long toolId, String name, long assessmentVersion) {
+        assessmentVersions[matrix.size()] = assessmentVersion;
+        return matrix.add(toolId, name);
+    }
+
+    public SubScoreMatrix matrix() {
+        return matrix;
+    }
+
+    public int size() {
+        return matrix.size();
+    }
+
+    public long toolId(int index) {
+        return matrix.id(index);
+    }
+
+    public long assessmentVersion(int index) {
+        return assessmentVersions[index];
+    }
+
+    public long lastToolId() {
+        return matrix.id(matrix.size() - 1);
+    }
+}
@@ -0,0 +1,227 @@
+package com.codingassistant.service;
+
+import com.codingassistant.config.CacheConfiguration;
+import com.codingassistant.dto.RescoreJobDTO;
+import com.codingassistant.repository.RescoreJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recomputes the stored totals of the whole catalog under the active {@link ScoringProfile}, e.g. after the rubric
+ * weights changed. Tools are read in keyset chunks of {@code scorecard.rescore.chunk-size}, re-scored in parallel by
+ * {@link ScoringEngine} and written back in JDBC batches; each chunk commits together with the job's checkpoint, so an
+ * interrupted or failed job resumes after the last tool it wrote. One job runs at a time.
+ */
+@Service
+public class RescoreJobService {
+
+    // Background connections a running job holds: one writes the current chunk while the other reads the next.
+    static final int CONNECTIONS = 2;
+
+    private static final Logger logger = LoggerFactory.getLogger(RescoreJobService.class);
+    private static final long NO_JOB = 0;
+
+    private final RescoreJobRepository rescoreJobRepository;
+    private final ScoringEngine scoringEngine;
+    private final Leaderboard leaderboard;
+    private final WhatIfLeaderboard whatIfLeaderboard;
+    private final ScoreEventBroadcaster scoreEventBroadcaster;
+    private final CacheManager cacheManager;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean initialize;
+
+    private final AtomicLong runningJob = new AtomicLong(NO_JOB);
+    private final ExecutorService runner = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean stopping;
+
+    @Autowired
+    public RescoreJobService(RescoreJobRepository rescoreJobRepository, ScoringEngine scoringEngine,
+                             Leaderboard leaderboard, WhatIfLeaderboard whatIfLeaderboard,
+                             ScoreEventBroadcaster scoreEventBroadcaster, CacheManager cacheManager,
+                             DatabaseBulkhead databaseBulkhead, PlatformTransactionManager transactionManager,
+                             @Value("${scorecard.rescore.chunk-size}") int chunkSize,
+                             @Value("${scorecard.startup.initialize}") boolean initialize) {
+        this.rescoreJobRepository = rescoreJobRepository;
+        this.scoringEngine = scoringEngine;
+        this.leaderboard = leaderboard;
+        this.whatIfLeaderboard = whatIfLeaderboard;
+        this.scoreEventBroadcaster = scoreEventBroadcaster;
+        this.cacheManager = cacheManager;
+        this.databaseBulkhead = databaseBulkhead;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.initialize = initialize;
+    }
+
+    // Anything still RUNNING belongs to a process that is gone; it can be resumed from its checkpoint.
+    @PostConstruct
+    public void recover() {
+        if (!initialize) {
+            return;
+        }
+        databaseBulkhead.runInBackground(1, () -> {
+            Integer interrupted = transactionTemplate.execute(status -> rescoreJobRepository.markInterrupted());
+            if (interrupted != null && interrupted > 0) {
+                logger.warn("Marked {} re-scoring job(s) as interrupted", interrupted);
+            }
+        });
+    }
+
+    @DatabaseAccess
+    public RescoreJobDTO start() {
+        ScoringProfile profile = scoringEngine.getActiveProfile();
+        claim();
+        try {
+            RescoreJobDTO job = transactionTemplate.execute(status -> {
+                long id = rescoreJobRepository.create(profile.getName(), rescoreJobRepository.countTools());
+                return rescoreJobRepository.findById(id).orElseThrow();
+            });
+            return launch(job, profile);
+        } catch (RuntimeException e) {
+            runningJob.set(NO_JOB);
+            throw e;
+        }
+    }
+
+    @DatabaseAccess
+    public RescoreJobDTO resume(long id) {
+        RescoreJobDTO job = get(id).orElseThrow(() -> new RuntimeException("Rescore job not found"));
+        if (!RescoreJobDTO.INTERRUPTED.equals(job.getStatus()) && !RescoreJobDTO.FAILED.equals(job.getStatus())) {
+            throw new IllegalStateException("Rescore job " + id + " is " + job.getStatus() + " and cannot be resumed");
+        }
+        ScoringProfile profile = scoringEngine.getActiveProfile();
+        if (!profile.getName().equals(job.getProfile())) {
+            throw new IllegalStateException("Rescore job " + id + " was started under profile " + job.getProfile() +
+                    " but the active profile is " + profile.getName());
+        }
+        claim();
+        try {
+            RescoreJobDTO running = transactionTemplate.execute(status -> {
+                rescoreJobRepository.markRunning(id);
+                return rescoreJobRepository.findById(id).orElseThrow();
+            });
+            return launch(running, profile);
+        } catch (RuntimeException e) {
+            runningJob.set(NO_JOB);
+            throw e;
+        }
+    }
+
+    @DatabaseAccess
+    public Optional<RescoreJobDTO> get(long id) {
+        return rescoreJobRepository.findById(id);
+    }
+
+    // Stops between chunks; the job is left RUNNING and marked interrupted on the next startup.
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        runner.close();
+    }
+
+    private void claim() {
+        if (!runningJob.compareAndSet(NO_JOB, -1)) {
+            throw new IllegalStateException("A rescore job is already running");
+        }
+    }
+
+    private RescoreJobDTO launch(RescoreJobDTO job, ScoringProfile profile) {
+        runningJob.set(job.getId());
+        runner.execute(() -> databaseBulkhead.runInBackground(CONNECTIONS,
+                () -> run(job.getId(), profile, job.getLastToolId())));
+        return job;
+    }
+
+    // The next chunk is read while the current one is written; the version guard in writeScores covers tools that
+    // change in between. A read that is no longer wanted, because the job failed or is stopping, is cancelled so it
+    // does not keep a background connection.
+    private void run(long id, ScoringProfile profile, long afterToolId) {
+        long startedAt = System.nanoTime();
+        long lastToolId = afterToolId;
+        Future<RescoreChunk> next = null;
+        boolean interrupted = false;
+        try {
+            RescoreChunk chunk = rescoreJobRepository.findChunk(afterToolId, chunkSize);
+            while (!stopping && chunk.size() > 0) {
+                int[] scores = scoringEngine.rescore(profile, chunk.matrix());
+                long nextAfter = chunk.lastToolId();
+                next = chunk.size() < chunkSize ? null
+                        : runner.submit(() -> rescoreJobRepository.findChunk(nextAfter, chunkSize));
+                RescoreChunk written = chunk;
+                transactionTemplate.executeWithoutResult(status -> writeChunk(id, written, scores));
+                lastToolId = nextAfter;
+                if (stopping) {
+                    break;
+                }
+                chunk = next == null ? new RescoreChunk(0) : next.get();
+                next = null;
+            }
+            if (!stopping) {
+                finish(id, RescoreJobDTO.COMPLETED, null);
+                logger.info("Rescore job {} completed in {} ms", id, (System.nanoTime() - startedAt) / 1_000_000);
+            }
+        } catch (RuntimeException | ExecutionException | InterruptedException e) {
+            logger.error("Rescore job {} failed after tool {}", id, lastToolId, e);
+            interrupted = e instanceof InterruptedException;
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            finish(id, RescoreJobDTO.FAILED, cause.getMessage());
+        } finally {
+            if (next != null) {
+                next.cancel(true);
+            }
+            runningJob.set(NO_JOB);
+            leaderboard.invalidate();
+            whatIfLeaderboard.invalidate();
+            scoreEventBroadcaster.resyncAll();
+            // Restored last: with the flag set, JDBC on this virtual thread fails at once, so FAILED could not be written.
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void finish(long id, String status, String error) {
+        transactionTemplate.executeWithoutResult(transaction -> rescoreJobRepository.finish(id, status, error));
+    }
+
+    // A chunk's scores and its checkpoint commit together, so a resumed job neither skips nor repeats a written chunk.
+    private void writeChunk(long id, RescoreChunk chunk, int[] scores) {
+        long[] updatedToolIds = rescoreJobRepository.writeScores(chunk, scores);
+        rescoreJobRepository.checkpoint(id, chunk.lastToolId(), chunk.size(), updatedToolIds.length);
+        if (updatedToolIds.length > 0) {
+            evictTools(updatedToolIds);
+        }
+    }
+
+    // The cache manager is transaction-aware, so these evictions take effect when the chunk commits.
+    private void evictTools(long[] toolIds) {
+        Cache toolCache = cacheManager.getCache(CacheConfiguration.TOOL_CACHE);
+        if (toolCache != null) {
+            for (long toolId : toolIds) {
+                toolCache.evict(toolId);
+            }
+        }
+        Cache toolsCache = cacheManager.getCache(CacheConfiguration.TOOLS_CACHE);
+        if (toolsCache != null) {
+            toolsCache.clear();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.PerformanceDTO;
+import com.codingassistant.event.ToolScoresUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed score changes out to {@code GET /tools/events} subscribers as Server-Sent Events.
+ * <p>
+ * An idle subscriber is just an async servlet request and a small queue; no thread is held. When events arrive a
+ * virtual thread drains that subscriber's queue, so one slow client never delays the others. Each queue is bounded:
+ * a subscriber that falls behind has its backlog replaced by a single {@code resync} event, telling it to refetch.
+ */
+@Component
+public class ScoreEventBroadcaster {
+
+    static final String SCORE_EVENT = "score";
+    static final String RESYNC_EVENT = "resync";
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreEventBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter overflows;
+
+    @Autowired
+    public ScoreEventBroadcaster(ObjectMapper objectMapper,
+                                 @Value("${scorecard.events.buffer-size}") int bufferSize,
+                                 @Value("${scorecard.events.timeout}") Duration timeout,
+                                 MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        Gauge.builder("scorecard.events.subscribers", subscribers, Set::size)
+                .description("Open GET /tools/events streams")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("scorecard.events.overflows")
+                .description("Subscribers whose buffer overflowed and were told to resync")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // Lets the client know the stream is live, so it can (re)load its baseline without missing changes.
+        enqueue(subscriber, SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON).build());
+        return emitter;
+    }
+
+    // Runs after commit only, so subscribers never see a change that was rolled back. The payload is
+    // serialized once and shared by every subscriber.
+    @TransactionalEventListener
+    public void onToolScoresUpdated(ToolScoresUpdatedEvent event) throws JsonProcessingException {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        PerformanceDTO performance = event.getPerformance();
+        Set<DataWithMediaType> data = SseEmitter.event()
+                .id(String.valueOf(sequence.incrementAndGet()))
+                .name(SCORE_EVENT)
+                .data(objectMapper.writeValueAsString(performance), MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, data);
+        }
+    }
+
+    // For bulk changes (e.g. a re-scoring job) that would be pointless to stream tool by tool.
+    public void resyncAll() {
+        Set<DataWithMediaType> data = SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON).build();
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, data);
+        }
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away without closing.
+    @Scheduled(fixedDelayString = "${scorecard.events.heartbeat}")
+    public void heartbeat() {
+        Set<DataWithMediaType> data = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty()) {
+                enqueue(subscriber, data);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> data) {
+        if (!subscriber.queue.offer(data)) {
+            subscriber.queue.clear();
+            subscriber.queue.offer(SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON).build());
+            overflows.increment();
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> data;
+            while ((data = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(data);
+            }
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping score event subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        senders.shutdown();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.codingassistant.service;
+
+import com.codingassistant.config.ScoringProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Compiles the configured weighting profiles once at startup and evaluates them: per assessment on the write path
+ * (the active profile), and over the whole catalog for re-scoring and what-if leaderboards (any profile).
+ */
+@Component
+public class ScoringEngine {
+
+    private final Map<String, ScoringProfile> profiles;
+    private final ScoringProfile activeProfile;
+
+    @Autowired
+    public ScoringEngine(ScoringProperties scoringProperties) {
+        Map<String, ScoringProfile> compiled = new LinkedHashMap<>();
+        compiled.put(ScoringProperties.DEFAULT_PROFILE, new ScoringProfile(ScoringProperties.DEFAULT_PROFILE, Map.of()));
+        scoringProperties.getProfiles().forEach((name, weights) ->
+                compiled.put(name, new ScoringProfile(name, weights == null ? Map.of() : weights)));
+        this.profiles = Collections.unmodifiableMap(compiled);
+        this.activeProfile = profiles.get(scoringProperties.getActiveProfile());
+        if (activeProfile == null) {
+            throw new IllegalStateException("Active scoring profile '" + scoringProperties.getActiveProfile()
+                    + "' is not defined under scorecard.scoring.profiles");
+        }
+    }
+
+    public ScoringProfile getActiveProfile() {
+        return activeProfile;
+    }
+
+    public Collection<ScoringProfile> getProfiles() {
+        return profiles.values();
+    }
+
+    public ScoringProfile getProfile(String name) {
+        ScoringProfile profile = profiles.get(name);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown scoring profile: " + name);
+        }
+        return profile;
+    }
+
+    // One parallel pass over the catalog; returns ScoringProfile.SCORES scores per tool, in matrix order.
+    public int[] rescore(ScoringProfile profile, SubScoreMatrix matrix) {
+        int[] scores = new int[matrix.size() * ScoringProfile.SCORES];
+        int[] subScores = matrix.subScores();
+        IntStream.range(0, matrix.size()).parallel().forEach(i ->
+                profile.evaluate(subScores, i * ScoringProfile.SUB_SCORES, scores, i * ScoringProfile.SCORES));
+        return scores;
+    }
+}
@@ -0,0 +1,104 @@
+package com.codingassistant.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A weighting profile compiled into one weight per {@link SubScoreDimension} ordinal. Category scores are the
+ * rounded weighted sums of their sub-scores and the total is the sum of the category scores; with every weight at 1
+ * this is exactly the unweighted scoring the scorecard always used. Evaluation does not allocate.
+ */
+public final class ScoringProfile {
+
+    // Layout of one row written by evaluate().
+    public static final int TOTAL = 0;
+    public static final int ACCELERATION = 1;
+    public static final int INTELLIGENCE = 2;
+    public static final int EXPERIENCE = 3;
+    public static final int VALUE = 4;
+    public static final int SCORES = 5;
+
+    public static final int SUB_SCORES = SubScoreDimension.values().length;
+
+    private static final int CAPABILITIES = SubScoreDimension.CAPABILITIES.ordinal();
+    private static final int ITERATION_SIZE = SubScoreDimension.ITERATION_SIZE.ordinal();
+    private static final int ITERATION_SPEED = SubScoreDimension.ITERATION_SPEED.ordinal();
+    private static final int AUTONOMY = SubScoreDimension.AUTONOMY.ordinal();
+    private static final int OUTPUT_QUALITY = SubScoreDimension.OUTPUT_QUALITY.ordinal();
+    private static final int CONTEXT_AWARENESS = SubScoreDimension.CONTEXT_AWARENESS.ordinal();
+    private static final int EASE_OF_USE = SubScoreDimension.EASE_OF_USE.ordinal();
+    private static final int FLEXIBILITY = SubScoreDimension.FLEXIBILITY.ordinal();
+    private static final int RELIABILITY = SubScoreDimension.RELIABILITY.ordinal();
+    private static final int VALUE_SUB_SCORE = SubScoreDimension.VALUE.ordinal();
+
+    private final String name;
+    private final double[] weights;
+
+    ScoringProfile(String name, Map<String, Double> weightsByKey) {
+        this.name = name;
+        this.weights = new double[SUB_SCORES];
+        Arrays.fill(weights, 1.0);
+        weightsByKey.forEach((key, weight) -> {
+            SubScoreDimension dimension;
+            try {
+                dimension = SubScoreDimension.fromParameter(key);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Unknown sub-score '" + key + "' in scoring profile '" + name + "'");
+            }
+            if (weight == null || weight < 0 || weight.isNaN() || weight.isInfinite()) {
+                throw new IllegalStateException("Invalid weight " + weight + " for '" + key + "' in scoring profile '" + name + "'");
+            }
+            weights[dimension.ordinal()] = weight;
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<SubScoreDimension, Double> getWeights() {
+        Map<SubScoreDimension, Double> byDimension = new EnumMap<>(SubScoreDimension.class);
+        for (SubScoreDimension dimension : SubScoreDimension.values()) {
+            byDimension.put(dimension, weights[dimension.ordinal()]);
+        }
+        return Collections.unmodifiableMap(byDimension);
+    }
+
+    public int acceleration(int capabilities, int iterationSize, int iterationSpeed) {
+        return (int) Math.round(weights[CAPABILITIES] * capabilities + weights[ITERATION_SIZE] * iterationSize
+                + weights[ITERATION_SPEED] * iterationSpeed);
+    }
+
+    public int intelligence(int autonomy, int outputQuality, int contextAwareness) {
+        return (int) Math.round(weights[AUTONOMY] * autonomy + weights[OUTPUT_QUALITY] * outputQuality
+                + weights[CONTEXT_AWARENESS] * contextAwareness);
+    }
+
+    public int experience(int easeOfUse, int flexibility, int reliability) {
+        return (int) Math.round(weights[EASE_OF_USE] * easeOfUse + weights[FLEXIBILITY] * flexibility
+                + weights[RELIABILITY] * reliability);
+    }
+
+    public int value(int value) {
+        return (int) Math.round(weights[VALUE_SUB_SCORE] * value);
+    }
+
+    // Scores the SUB_SCORES sub-scores at subScores[in..] (ordered by SubScoreDimension ordinal) into the SCORES
+    // slots at scores[out..].
+    public void evaluate(int[] subScores, int in, int[] scores, int out) {
+        int acceleration = acceleration(subScores[in + CAPABILITIES], subScores[in + ITERATION_SIZE],
+                subScores[in + ITERATION_SPEED]);
+        int intelligence = intelligence(subScores[in + AUTONOMY], subScores[in + OUTPUT_QUALITY],
+                subScores[in + CONTEXT_AWARENESS]);
+        int experience = experience(subScores[in + EASE_OF_USE], subScores[in + FLEXIBILITY],
+                subScores[in + RELIABILITY]);
+        int value = value(subScores[in + VALUE_SUB_SCORE]);
+        scores[out + ACCELERATION] = acceleration;
+        scores[out + INTELLIGENCE] = intelligence;
+        scores[out + EXPERIENCE] = experience;
+        scores[out + VALUE] = value;
+        scores[out + TOTAL] = acceleration + intelligence + experience + value;
+    }
+}
@@ -0,0 +1,39 @@
+package com.codingassistant.service;
+
+public enum SubScoreDimension {
+    AUTONOMY("Intelligence", "autonomy"),
+    OUTPUT_QUALITY("Intelligence", "outputQuality"),
+    CONTEXT_AWARENESS("Intelligence", "contextAwareness"),
+    CAPABILITIES("Acceleration", "capabilities"),
+    ITERATION_SIZE("Acceleration", "iterationSize"),
+    ITERATION_SPEED("Acceleration", "iterationSpeed"),
+    EASE_OF_USE("Experience", "easeOfUse"),
+    FLEXIBILITY("Experience", "flexibility"),
+    RELIABILITY("Experience", "reliability"),
+    VALUE("Value", "value");
+
+    private final String categoryName;
+    private final String key;
+
+    SubScoreDimension(String categoryName, String key) {
+        this.categoryName = categoryName;
+        this.key = key;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static SubScoreDimension fromParameter(String value) {
+        for (SubScoreDimension dimension : values()) {
+            if (dimension.key.equalsIgnoreCase(value) || dimension.name().equalsIgnoreCase(value)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported dimension: " + value);
+    }
+}
@@ -0,0 +1,51 @@
+package com.codingassistant.service;
+
+import java.util.Arrays;
+
+/**
+ * The catalog's sub-scores as one flat int array, {@link ScoringProfile#SUB_SCORES} per tool in
+ * {@link SubScoreDimension} ordinal order, so a profile can be evaluated over every tool without touching entities.
+ */
+public final class SubScoreMatrix {
+
+    private long[] ids;
+    private String[] names;
+    private int[] subScores;
+    private int size;
+
+    public SubScoreMatrix(int expectedSize) {
+        int capacity = Math.max(expectedSize, 16);
+        this.ids = new long[capacity];
+        this.names = new String[capacity];
+        this.subScores = new int[capacity * ScoringProfile.SUB_SCORES];
+    }
+
+    // Returns the offset in subScores() where the new tool's row starts, for the caller to fill.
+    public int add(long id, String name) {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            subScores = Arrays.copyOf(subScores, capacity * ScoringProfile.SUB_SCORES);
+        }
+        ids[size] = id;
+        names[size] = name;
+        return size++ * ScoringProfile.SUB_SCORES;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public int[] subScores() {
+        return subScores;
+    }
+}
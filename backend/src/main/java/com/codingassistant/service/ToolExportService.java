@@ -0,0 +1,247 @@
+package com.codingassistant.service;
+
+import com.codingassistant.repository.ToolExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+public class ToolExportService {
+
+    private static final String[] CATEGORY_NAMES = {"Intelligence", "Acceleration", "Experience", "Value"};
+    static final String[] CSV_HEADER = {
+            "id", "name", "status", "category", "description", "last_assessment",
+            "total", "intelligence", "acceleration", "experience", "value",
+            "intelligence_score", "intelligence_note", "acceleration_score", "acceleration_note",
+            "experience_score", "experience_note", "value_score", "value_note"
+    };
+
+    private final ToolExportRepository toolExportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ToolExportService(ToolExportRepository toolExportRepository, ObjectMapper objectMapper) {
+        this.toolExportRepository = toolExportRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // Rows arrive ordered by tool, so only the tool currently being assembled is held in memory.
+    @Transactional(readOnly = true)
+    @DatabaseAccess(DatabaseAccess.Budget.BULK)
+    public void export(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (ExportWriter writer = format == ExportFormat.CSV ? new CsvExportWriter(outputStream)
+                : new NdjsonExportWriter(objectMapper.getFactory().createGenerator(outputStream))) {
+            ExportRecord record = new ExportRecord();
+            toolExportRepository.streamScorecard(new ExportRowHandler(record, writer));
+            if (record.toolId != null) {
+                writer.write(record);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ExportRowHandler implements RowCallbackHandler {
+        private final ExportRecord record;
+        private final ExportWriter writer;
+
+        private ExportRowHandler(ExportRecord record, ExportWriter writer) {
+            this.record = record;
+            this.writer = writer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long toolId = rs.getLong("id");
+            if (record.toolId == null || record.toolId != toolId) {
+                if (record.toolId != null) {
+                    try {
+                        writer.write(record);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                record.load(rs);
+            }
+            String categoryName = rs.getString("category_name");
+            if (categoryName != null) {
+                record.categories.put(categoryName,
+                        new String[]{rs.getString("category_score"), rs.getString("category_note")});
+            }
+        }
+    }
+
+    private static final class ExportRecord {
+        private Long toolId;
+        private String name;
+        private String status;
+        private String category;
+        private String description;
+        private String lastAssessment;
+        private BigDecimal total;
+        private BigDecimal intelligence;
+        private BigDecimal acceleration;
+        private BigDecimal experience;
+        private BigDecimal value;
+        private final Map<String, String[]> categories = new HashMap<>();
+
+        private void load(ResultSet rs) throws SQLException {
+            toolId = rs.getLong("id");
+            name = rs.getString("name");
+            status = rs.getString("status");
+            category = rs.getString("category");
+            description = rs.getString("description");
+            Date lastAssessmentDate = rs.getDate("last_assessment");
+            lastAssessment = lastAssessmentDate == null ? null : lastAssessmentDate.toLocalDate().toString();
+            total = rs.getBigDecimal("total");
+            intelligence = rs.getBigDecimal("intelligence");
+            acceleration = rs.getBigDecimal("acceleration");
+            experience = rs.getBigDecimal("experience");
+            value = rs.getBigDecimal("value");
+            categories.clear();
+        }
+    }
+
+    private interface ExportWriter extends Closeable {
+        void write(ExportRecord record) throws IOException;
+    }
+
+    private static final class NdjsonExportWriter implements ExportWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonExportWriter(JsonGenerator generator) {
+            this.generator = generator;
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ExportRecord record) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", record.toolId);
+            writeStringField("name", record.name);
+            writeStringField("status", record.status);
+            writeStringField("category", record.category);
+            writeStringField("description", record.description);
+            writeStringField("lastAssessment", record.lastAssessment);
+            generator.writeObjectFieldStart("scores");
+            writeNumberField("total", record.total);
+            writeNumberField("intelligence", record.intelligence);
+            writeNumberField("acceleration", record.acceleration);
+            writeNumberField("experience", record.experience);
+            writeNumberField("value", record.value);
+            generator.writeEndObject();
+            generator.writeObjectFieldStart("categories");
+            for (Map.Entry<String, String[]> entry : record.categories.entrySet()) {
+                generator.writeObjectFieldStart(entry.getKey());
+                writeStringField("score", entry.getValue()[0]);
+                writeStringField("note", entry.getValue()[1]);
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeStringField(String fieldName, String value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(fieldName, value);
+            }
+        }
+
+        private void writeNumberField(String fieldName, BigDecimal value) throws IOException {
+            if (value != null) {
+                generator.writeNumberField(fieldName, value);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvExportWriter implements ExportWriter {
+        private final Writer writer;
+
+        private CsvExportWriter(OutputStream outputStream) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writeRow(CSV_HEADER);
+        }
+
+        @Override
+        public void write(ExportRecord record) throws IOException {
+            String[] row = new String[CSV_HEADER.length];
+            row[0] = String.valueOf(record.toolId);
+            row[1] = record.name;
+            row[2] = record.status;
+            row[3] = record.category;
+            row[4] = record.description;
+            row[5] = record.lastAssessment;
+            row[6] = plain(record.total);
+            row[7] = plain(record.intelligence);
+            row[8] = plain(record.acceleration);
+            row[9] = plain(record.experience);
+            row[10] = plain(record.value);
+            for (int i = 0; i < CATEGORY_NAMES.length; i++) {
+                String[] categoryValues = record.categories.get(CATEGORY_NAMES[i]);
+                if (categoryValues != null) {
+                    row[11 + i * 2] = categoryValues[0];
+                    row[12 + i * 2] = categoryValues[1];
+                }
+            }
+            writeRow(row);
+        }
+
+        private void writeRow(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writeField(values[i]);
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        private static String plain(BigDecimal value) {
+            return value == null ? null : value.toPlainString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
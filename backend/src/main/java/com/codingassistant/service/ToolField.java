@@ -0,0 +1,28 @@
+package com.codingassistant.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum ToolField {
+    ASSESSMENT,
+    CATEGORIES,
+    NOTES;
+
+    public static Set<ToolField> fromParameter(String value) {
+        if (value == null) {
+            return EnumSet.allOf(ToolField.class);
+        }
+        Set<ToolField> fields = EnumSet.noneOf(ToolField.class);
+        for (String field : value.split(",")) {
+            if (field.isBlank()) {
+                continue;
+            }
+            try {
+                fields.add(ToolField.valueOf(field.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported field: " + field.trim());
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,9 @@
+package com.codingassistant.service;
+
+// The import input could not be staged or merged; nothing of it was written.
+public class ToolImportException extends RuntimeException {
+
+    public ToolImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,228 @@
+package com.codingassistant.service;
+
+import com.codingassistant.config.CacheConfiguration;
+import com.codingassistant.dto.ToolImportResultDTO;
+import com.codingassistant.repository.ToolImportRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bulk import of tools with their scores and category notes, in the layouts {@link ToolExportService} writes. The
+ * input is streamed through {@code COPY FROM STDIN} into a temporary staging table, one row per tool, and merged into
+ * tools, assessments, assessment_scores and assessment_categories with a handful of set-based statements, all in one
+ * transaction. Rows whose id names an existing tool update it; all others become new tools.
+ */
+@Service
+public class ToolImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToolImportService.class);
+    private static final List<String> CATEGORY_NAMES = List.of("Intelligence", "Acceleration", "Experience", "Value");
+    private static final String[] SCORE_FIELDS = {"total", "intelligence", "acceleration", "experience", "value"};
+
+    private final ToolImportRepository toolImportRepository;
+    private final ObjectMapper objectMapper;
+    private final Leaderboard leaderboard;
+    private final WhatIfLeaderboard whatIfLeaderboard;
+    private final ScoreEventBroadcaster scoreEventBroadcaster;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ToolImportService(ToolImportRepository toolImportRepository, ObjectMapper objectMapper,
+                             Leaderboard leaderboard, WhatIfLeaderboard whatIfLeaderboard,
+                             ScoreEventBroadcaster scoreEventBroadcaster, CacheManager cacheManager,
+                             PlatformTransactionManager transactionManager) {
+        this.toolImportRepository = toolImportRepository;
+        this.objectMapper = objectMapper;
+        this.leaderboard = leaderboard;
+        this.whatIfLeaderboard = whatIfLeaderboard;
+        this.scoreEventBroadcaster = scoreEventBroadcaster;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Only the row being converted is held in memory; COPY reads the input as it arrives.
+    @DatabaseAccess(DatabaseAccess.Budget.BULK)
+    public ToolImportResultDTO importTools(ExportFormat format, InputStream input) throws IOException {
+        long startedAt = System.nanoTime();
+        Reader rows = format == ExportFormat.CSV ? csvRows(input) : new NdjsonRows(objectMapper.getFactory().createParser(input));
+        ToolImportResultDTO result;
+        try {
+            result = transactionTemplate.execute(status -> merge(rows));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (DataIntegrityViolationException e) {
+            throw new ToolImportException(e.getMostSpecificCause().getMessage());
+        }
+        if (result.getInserted() > 0 || result.getUpdated() > 0) {
+            invalidate();
+        }
+        logger.info("Imported {} tools ({} new, {} updated) in {} ms", result.getImported(), result.getInserted(),
+                result.getUpdated(), (System.nanoTime() - startedAt) / 1_000_000);
+        return result;
+    }
+
+    private ToolImportResultDTO merge(Reader rows) {
+        toolImportRepository.createStaging();
+        long staged = toolImportRepository.copyIntoStaging(rows);
+        toolImportRepository.analyzeStaging();
+        Optional<Long> duplicate = toolImportRepository.findDuplicateId();
+        if (duplicate.isPresent()) {
+            throw new ToolImportException("Tool id " + duplicate.get() + " appears more than once");
+        }
+        toolImportRepository.matchExistingTools();
+        int inserted = toolImportRepository.assignNewToolIds();
+        toolImportRepository.mergeTools();
+        toolImportRepository.mergeScoresAndCategories();
+        int updated = toolImportRepository.bumpChangedAssessments();
+
+        ToolImportResultDTO result = new ToolImportResultDTO();
+        result.setImported(staged);
+        result.setInserted(inserted);
+        result.setUpdated(updated);
+        result.setUnchanged(staged - inserted - updated);
+        return result;
+    }
+
+    // After commit: everything cached or ranked from the previous catalog is rebuilt on the next read.
+    private void invalidate() {
+        for (String cacheName : List.of(CacheConfiguration.TOOL_CACHE, CacheConfiguration.TOOLS_CACHE)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        leaderboard.invalidate();
+        whatIfLeaderboard.invalidate();
+        scoreEventBroadcaster.resyncAll();
+    }
+
+    // The CSV export's header, then its rows, which COPY takes as they are.
+    private static Reader csvRows(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 65536);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new ToolImportException("Empty CSV input");
+        }
+        if (!Arrays.asList(header.split(",", -1)).equals(Arrays.asList(ToolExportService.CSV_HEADER))) {
+            throw new ToolImportException("CSV header must be " + String.join(",", ToolExportService.CSV_HEADER));
+        }
+        return reader;
+    }
+
+    // Converts NDJSON export records into staging rows (CSV in export column order) one record at a time.
+    private static final class NdjsonRows extends Reader {
+        private final JsonParser parser;
+        private final StringBuilder row = new StringBuilder(4096);
+        private int position;
+
+        private NdjsonRows(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            if (position == row.length() && !nextRow()) {
+                return -1;
+            }
+            int count = Math.min(length, row.length() - position);
+            row.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        private boolean nextRow() throws IOException {
+            row.setLength(0);
+            position = 0;
+            int line = parser.currentLocation().getLineNr();
+            JsonNode record;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    return false;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new ToolImportException("Line " + line + " is not a JSON object");
+                }
+                record = parser.readValueAsTree();
+            } catch (JsonProcessingException e) {
+                throw new ToolImportException("Malformed NDJSON near line " + line + ": " + e.getOriginalMessage());
+            }
+            JsonNode id = record.path("id");
+            if (!id.isMissingNode() && !id.isNull() && !id.canConvertToLong()) {
+                throw new ToolImportException("Line " + line + ": id must be an integer");
+            }
+            row.append(id.isIntegralNumber() ? id.asText() : "");
+            appendText(record.get("name"));
+            appendText(record.get("status"));
+            appendText(record.get("category"));
+            appendText(record.get("description"));
+            appendText(record.get("lastAssessment"));
+            JsonNode scores = record.path("scores");
+            for (String field : SCORE_FIELDS) {
+                appendText(scores.get(field));
+            }
+            JsonNode categories = record.path("categories");
+            for (Iterator<String> names = categories.fieldNames(); names.hasNext(); ) {
+                String name = names.next();
+                if (!CATEGORY_NAMES.contains(name)) {
+                    throw new ToolImportException("Line " + line + ": unknown category " + name);
+                }
+            }
+            for (String name : CATEGORY_NAMES) {
+                JsonNode category = categories.path(name);
+                appendText(category.get("score"));
+                appendText(category.get("note"));
+            }
+            row.append('\n');
+            return true;
+        }
+
+        // Absent and null become NULL; objects (e.g. a score given as JSON rather than as its text) are written as JSON.
+        private void appendText(JsonNode value) {
+            row.append(',');
+            if (value == null || value.isNull()) {
+                return;
+            }
+            String text = value.isValueNode() ? value.asText() : value.toString();
+            row.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"') {
+                    row.append('"');
+                }
+                row.append(c);
+            }
+            row.append('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.codingassistant.service;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+public final class ToolQuery {
+
+    private final long afterId;
+    private final int limit;
+    private final String status;
+    private final String category;
+    private final Set<ToolField> fields;
+
+    public ToolQuery(long afterId, int limit, String status, String category, Set<ToolField> fields) {
+        this.afterId = afterId;
+        this.limit = limit;
+        this.status = status;
+        this.category = category;
+        Set<ToolField> copy = EnumSet.noneOf(ToolField.class);
+        copy.addAll(fields);
+        this.fields = Collections.unmodifiableSet(copy);
+    }
+
+    public long getAfterId() {
+        return afterId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Set<ToolField> getFields() {
+        return fields;
+    }
+
+    public boolean includes(ToolField field) {
+        return fields.contains(field);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ToolQuery)) return false;
+        ToolQuery that = (ToolQuery) o;
+        return afterId == that.afterId && limit == that.limit && Objects.equals(status, that.status)
+                && Objects.equals(category, that.category) && fields.equals(that.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(afterId, limit, status, category, fields);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ToolQuery[afterId=%d, limit=%d, status='%s', category='%s', fields=%s]",
+                afterId, limit, status, category, fields);
+    }
+}
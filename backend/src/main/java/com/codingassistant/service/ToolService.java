@@ -1,76 +1,369 @@
 package com.codingassistant.service;
 
+import com.codingassistant.config.CacheConfiguration;
 import com.codingassistant.dto.AssessmentCategoryDto;
 import com.codingassistant.dto.AssessmentDTO;
+import com.codingassistant.dto.AssessmentScoresAndNotesDTO;
+import com.codingassistant.dto.AssessmentSnapshotDTO;
+import com.codingassistant.dto.AssessmentVersionDTO;
+import com.codingassistant.dto.LeaderboardDTO;
 import com.codingassistant.dto.PerformanceDTO;
+import com.codingassistant.dto.ScoringProfileDTO;
+import com.codingassistant.dto.SubScoreRankDTO;
 import com.codingassistant.dto.ToolDto;
+import com.codingassistant.dto.ToolAssessmentUpdateDTO;
+import com.codingassistant.dto.ToolPageDTO;
+import com.codingassistant.dto.ToolSearchResultDTO;
+import com.codingassistant.dto.ToolUpdateResultDTO;
+import com.codingassistant.event.ToolScoresUpdatedEvent;
 import com.codingassistant.model.Assessment;
 import com.codingassistant.model.AssessmentCategory;
 import com.codingassistant.model.AssessmentScore;
 import com.codingassistant.model.Tool;
+import com.codingassistant.repository.SubScoreRankingRepository;
 import com.codingassistant.repository.ToolRepository;
+import com.codingassistant.repository.ToolSearchRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
 public class ToolService {
     private final ToolRepository toolRepository;
+    private final SubScoreRankingRepository subScoreRankingRepository;
+    private final AssessmentService assessmentService;
+    private final Leaderboard leaderboard;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final ObservationRegistry observationRegistry;
+    private final NoteWriteBehindQueue noteWriteBehindQueue;
+    private final ScoringEngine scoringEngine;
+    private final WhatIfLeaderboard whatIfLeaderboard;
+    private final AssessmentHistoryService assessmentHistoryService;
+    private final ToolSearchRepository toolSearchRepository;
 
     @Autowired
-    public ToolService(ToolRepository toolRepository) {
+    public ToolService(ToolRepository toolRepository, SubScoreRankingRepository subScoreRankingRepository,
+                       AssessmentService assessmentService, Leaderboard leaderboard,
+                       ApplicationEventPublisher eventPublisher, CacheManager cacheManager,
+                       ObservationRegistry observationRegistry, NoteWriteBehindQueue noteWriteBehindQueue,
+                       ScoringEngine scoringEngine, WhatIfLeaderboard whatIfLeaderboard,
+                       AssessmentHistoryService assessmentHistoryService,
+                       ToolSearchRepository toolSearchRepository) {
         this.toolRepository = toolRepository;
+        this.subScoreRankingRepository = subScoreRankingRepository;
+        this.assessmentService = assessmentService;
+        this.leaderboard = leaderboard;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.observationRegistry = observationRegistry;
+        this.noteWriteBehindQueue = noteWriteBehindQueue;
+        this.scoringEngine = scoringEngine;
+        this.whatIfLeaderboard = whatIfLeaderboard;
+        this.assessmentHistoryService = assessmentHistoryService;
+        this.toolSearchRepository = toolSearchRepository;
     }
 
+    @Cacheable(CacheConfiguration.TOOLS_CACHE)
     @Transactional(readOnly = true)
-    public List<ToolDto> getAllTools() {
-        List<ToolDto> toolDtos = new ArrayList<>();
-        List<Tool> tools = toolRepository.findAll();
-        for (Tool tool : tools) {
-            toolDtos.add(toolDto(tool));
+    @DatabaseAccess
+    public ToolPageDTO getTools(ToolQuery query) {
+        // Read before the page, so a change committed in between can leave the validator behind the body but never ahead.
+        LocalDateTime lastModified = toolRepository.findLatestAssessmentUpdate().orElse(null);
+        List<Long> ids = phase("list", "load", () -> toolRepository.findIdsAfter(query.getAfterId(),
+                query.getStatus(), query.getCategory(), query.getLimit() + 1));
+        boolean hasMore = ids.size() > query.getLimit();
+        List<Long> pageIds = hasMore ? ids.subList(0, query.getLimit()) : ids;
+        if (pageIds.isEmpty()) {
+            return new ToolPageDTO(List.of(), null, lastModified);
         }
-        return toolDtos;
+        boolean withCategories = query.includes(ToolField.CATEGORIES) || query.includes(ToolField.NOTES);
+        List<Tool> tools = phase("list", "load", () -> withCategories
+                ? toolRepository.findAllWithAssessmentByIdIn(pageIds)
+                : toolRepository.findAllWithScoreByIdIn(pageIds));
+        List<ToolDto> toolDtos = phase("list", "map", () -> {
+            List<ToolDto> mapped = new ArrayList<>(tools.size());
+            for (Tool tool : tools) {
+                mapped.add(withPendingNotes(toolDto(tool, query.getFields()), query.getFields()));
+            }
+            return mapped;
+        });
+        return new ToolPageDTO(toolDtos, hasMore ? pageIds.get(pageIds.size() - 1) : null, lastModified);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TOOL_CACHE, key = "#id")
     @Transactional(readOnly = true)
+    @DatabaseAccess
     public ToolDto getToolDtoById(Long id) {
-        return toolDto(toolRepository.findById(id).orElseThrow(() -> new RuntimeException("Tool not found")));
+        Tool tool = phase("get", "load", () -> toolRepository.findWithAssessmentById(id)
+                .orElseThrow(() -> new RuntimeException("Tool not found")));
+        return phase("get", "map", () -> {
+            Set<ToolField> fields = EnumSet.allOf(ToolField.class);
+            return withPendingNotes(toolDto(tool, fields), fields);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    @DatabaseAccess
+    public Optional<AssessmentVersionDTO> getAssessmentVersion(Long id) {
+        return toolRepository.findAssessmentVersionByToolId(id);
     }
 
     @Transactional(readOnly = true)
+    @DatabaseAccess
     public Tool getToolById(Long id) {
-        return toolRepository.findById(id).orElseThrow(() -> new RuntimeException("Tool not found"));
+        return toolRepository.findWithAssessmentById(id).orElseThrow(() -> new RuntimeException("Tool not found"));
     }
 
+    // Only changed fields are written (entities use @DynamicUpdate). When anything changed the assessment row is
+    // dirtied too (markUpdated), so the flush issues a versioned UPDATE and a concurrent writer that committed in
+    // between fails here instead of silently overwriting. A no-op update writes nothing and keeps caches and version.
     @Transactional
-    public Tool saveTool(Tool tool) {
-        return toolRepository.save(tool);
+    @DatabaseAccess
+    public ToolUpdateResultDTO updateTool(Long id, AssessmentScoresAndNotesDTO assessmentScoresAndNotesDTO, Long expectedVersion)
+            throws JsonProcessingException {
+        Tool tool = toolRepository.findWithAssessmentById(id).orElseThrow(() -> new RuntimeException("Tool not found"));
+        Assessment assessment = tool.getAssessment();
+        if (expectedVersion != null && !expectedVersion.equals(assessment.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Assessment.class, assessment.getId());
+        }
+        List<String> changes = applyUpdate(assessmentScoresAndNotesDTO, assessment);
+        if (changes.isEmpty()) {
+            return updateResult(tool, changes);
+        }
+        Tool savedTool = toolRepository.saveAndFlush(tool);
+        evictTool(id);
+        if (hasScoreChanges(changes)) {
+            eventPublisher.publishEvent(new ToolScoresUpdatedEvent(performanceDto(savedTool),
+                    savedTool.getAssessment().getUpdatedAt()));
+        }
+        return updateResult(savedTool, changes);
     }
 
-    public List<PerformanceDTO> getPerformances() {
-        List<Tool> tools = toolRepository.findAll();
-        List<PerformanceDTO> performanceDtos = new ArrayList<>();
-        for (Tool tool : tools) {
-            PerformanceDTO performanceDto = new PerformanceDTO();
-            performanceDto.setId(tool.getId());
-            performanceDto.setName(tool.getName());
-            performanceDto.setTotal(tool.getAssessment().getAssessmentScore().getTotal());
-            performanceDto.setAcceleration(tool.getAssessment().getAssessmentScore().getAcceleration());
-            performanceDto.setIntelligence(tool.getAssessment().getAssessmentScore().getIntelligence());
-            performanceDto.setExperience(tool.getAssessment().getAssessmentScore().getExperience());
-            performanceDto.setValue(tool.getAssessment().getAssessmentScore().getValue());
-            performanceDtos.add(performanceDto);
+    // All targets are loaded with one fetch-join query and flushed together, so the UPDATEs go out as JDBC batches
+    // (see hibernate.jdbc.batch_size). Their assessments are locked before loading, so every version check sees the
+    // committed version and no concurrent writer can fail the flush: conflicts are reported per tool. Tool cache
+    // entries are evicted per id.
+    @Transactional
+    @DatabaseAccess
+    public List<ToolUpdateResultDTO> updateTools(List<ToolAssessmentUpdateDTO> updates) throws JsonProcessingException {
+        Set<Long> ids = new HashSet<>();
+        for (ToolAssessmentUpdateDTO update : updates) {
+            if (update.getToolId() != null) {
+                ids.add(update.getToolId());
+            }
+        }
+        Map<Long, Tool> tools = new HashMap<>();
+        if (!ids.isEmpty()) {
+            toolRepository.lockAssessmentsByToolIdIn(ids);
+            toolRepository.findAllWithAssessmentByIdIn(ids).forEach(tool -> tools.put(tool.getId(), tool));
+        }
+
+        List<ToolUpdateResultDTO> results = new ArrayList<>(updates.size());
+        List<Tool> rescored = new ArrayList<>();
+        for (ToolAssessmentUpdateDTO update : updates) {
+            String invalidReason = invalidReason(update);
+            if (invalidReason != null) {
+                results.add(new ToolUpdateResultDTO(update.getToolId(), ToolUpdateResultDTO.INVALID, invalidReason));
+                continue;
+            }
+            Tool tool = tools.get(update.getToolId());
+            if (tool == null || tool.getAssessment() == null) {
+                results.add(new ToolUpdateResultDTO(update.getToolId(), ToolUpdateResultDTO.NOT_FOUND, "Tool not found"));
+                continue;
+            }
+            if (update.getVersion() != null && !update.getVersion().equals(tool.getAssessment().getVersion())) {
+                results.add(new ToolUpdateResultDTO(tool.getId(), ToolUpdateResultDTO.CONFLICT,
+                        "Expected version " + update.getVersion() + " but found " + tool.getAssessment().getVersion()));
+                continue;
+            }
+            List<String> changes = applyUpdate(update, tool.getAssessment());
+            if (!changes.isEmpty()) {
+                evictTool(tool.getId());
+            }
+            if (hasScoreChanges(changes)) {
+                rescored.add(tool);
+            }
+            results.add(updateResult(tool, changes));
         }
-        return performanceDtos;
+        // Flushed before the events and versions are read, so both carry what this transaction commits.
+        toolRepository.flush();
+        for (Tool tool : rescored) {
+            eventPublisher.publishEvent(new ToolScoresUpdatedEvent(performanceDto(tool), tool.getAssessment().getUpdatedAt()));
+        }
+        for (ToolUpdateResultDTO result : results) {
+            if (result.getChanges() != null) {
+                result.setVersion(tools.get(result.getToolId()).getAssessment().getVersion());
+            }
+        }
+        return results;
     }
 
+    // Without a profile this is the stored leaderboard; with one it is a what-if ranking that writes nothing.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public LeaderboardDTO getPerformances(LeaderboardSortKey sortKey, int limit, String profile) {
+        return profile == null ? leaderboard.top(sortKey, limit) : whatIfLeaderboard.top(profile, sortKey, limit);
+    }
 
+    // The leaderboard as it stood at asOf, rebuilt from assessment_history.
+    @Transactional(readOnly = true)
+    @DatabaseAccess
+    public LeaderboardDTO getPerformancesAsOf(Instant asOf, LeaderboardSortKey sortKey, int limit) {
+        LocalDateTime lastModified = toolRepository.findLatestAssessmentUpdate().orElse(null);
+        return new LeaderboardDTO(assessmentHistoryService.getPerformancesAsOf(asOf, sortKey, limit), lastModified);
+    }
+
+    @Transactional(readOnly = true)
+    @DatabaseAccess
+    public List<AssessmentSnapshotDTO> getHistory(Long id, Instant from, Instant to) {
+        if (!toolRepository.existsById(id)) {
+            throw new RuntimeException("Tool not found");
+        }
+        return assessmentHistoryService.getHistory(id, from, to);
+    }
+
+    // Ranked by how well the tool's notes match; notes still queued by write-behind are not searchable yet.
+    @Transactional(readOnly = true)
+    @DatabaseAccess
+    public List<ToolSearchResultDTO> searchTools(String query, String category, int limit) {
+        return toolSearchRepository.search(query, category, limit);
+    }
+
+    public List<ScoringProfileDTO> getScoringProfiles() {
+        List<ScoringProfileDTO> profiles = new ArrayList<>();
+        for (ScoringProfile profile : scoringEngine.getProfiles()) {
+            Map<String, Double> weights = new LinkedHashMap<>();
+            profile.getWeights().forEach((dimension, weight) -> weights.put(dimension.getKey(), weight));
+            profiles.add(new ScoringProfileDTO(profile.getName(), profile == scoringEngine.getActiveProfile(), weights));
+        }
+        return profiles;
+    }
+
+    @Transactional(readOnly = true)
+    @DatabaseAccess
+    public List<SubScoreRankDTO> getSubScoreRanking(SubScoreDimension dimension, Integer minScore, int limit) {
+        List<SubScoreRankDTO> ranking = subScoreRankingRepository.findTopBySubScore(dimension, minScore, limit);
+        for (int i = 0; i < ranking.size(); i++) {
+            boolean tied = i > 0 && ranking.get(i).getScore() == ranking.get(i - 1).getScore();
+            ranking.get(i).setRank(tied ? ranking.get(i - 1).getRank() : i + 1);
+        }
+        return ranking;
+    }
 
-    private ToolDto toolDto(Tool tool) {
+    // With write-behind on, only the scores are written in this transaction; the notes follow asynchronously. Queued
+    // notes still give the assessment its new version here, so the ETag this PUT returns stays valid for If-Match
+    // after the flush, which writes the notes without touching the version.
+    private List<String> applyUpdate(AssessmentScoresAndNotesDTO update, Assessment assessment) throws JsonProcessingException {
+        if (!noteWriteBehindQueue.isEnabled()) {
+            return assessmentService.applyScoresAndNotes(update, assessment);
+        }
+        List<String> changes = new ArrayList<>(assessmentService.applyScores(update.getScores(), assessment));
+        List<String> noteChanges = noteWriteBehindQueue.submit(assessment, assessmentService.categoryNotes(update.getNotes()));
+        if (!noteChanges.isEmpty()) {
+            assessment.markUpdated();
+            changes.addAll(noteChanges);
+        }
+        return changes;
+    }
+
+    // Notes still queued by write-behind replace the stored ones, so a tool reads the same under one version before
+    // and after the flush.
+    private ToolDto withPendingNotes(ToolDto toolDto, Set<ToolField> fields) {
+        if (!fields.contains(ToolField.NOTES) || !noteWriteBehindQueue.hasPending() || toolDto.getAssessment() == null) {
+            return toolDto;
+        }
+        for (AssessmentCategoryDto category : toolDto.getAssessment().getCategories()) {
+            String note = noteWriteBehindQueue.getPendingNote(toolDto.getId(), category.getName());
+            if (note != null) {
+                category.setNote(note);
+            }
+        }
+        return toolDto;
+    }
+
+    private static boolean hasScoreChanges(List<String> changes) {
+        for (String change : changes) {
+            if (!change.endsWith(".note")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The cache manager is transaction-aware, so these evictions take effect when the update commits.
+    private void evictTool(Long id) {
+        Cache toolCache = cacheManager.getCache(CacheConfiguration.TOOL_CACHE);
+        if (toolCache != null) {
+            toolCache.evict(id);
+        }
+        Cache toolsCache = cacheManager.getCache(CacheConfiguration.TOOLS_CACHE);
+        if (toolsCache != null) {
+            toolsCache.clear();
+        }
+    }
+
+    private static ToolUpdateResultDTO updateResult(Tool tool, List<String> changes) {
+        ToolUpdateResultDTO result = new ToolUpdateResultDTO(tool.getId(),
+                changes.isEmpty() ? ToolUpdateResultDTO.UNCHANGED : ToolUpdateResultDTO.UPDATED, null);
+        result.setVersion(tool.getAssessment().getVersion());
+        result.setChanges(changes);
+        return result;
+    }
+
+    // Timed as scorecard.tools.phase{operation,phase}; as an Observation it also becomes a span once tracing is on.
+    private <T> T phase(String operation, String phase, Supplier<T> work) {
+        return Observation.createNotStarted("scorecard.tools.phase", observationRegistry)
+                .lowCardinalityKeyValue("operation", operation)
+                .lowCardinalityKeyValue("phase", phase)
+                .observe(work);
+    }
+
+    private String invalidReason(ToolAssessmentUpdateDTO update) {
+        if (update.getToolId() == null) {
+            return "toolId is required";
+        }
+        if (update.getScores() == null || update.getScores().getIntelligence() == null
+                || update.getScores().getAcceleration() == null || update.getScores().getExperience() == null
+                || update.getScores().getValue() == null) {
+            return "scores for all four categories are required";
+        }
+        if (update.getNotes() == null) {
+            return "notes are required";
+        }
+        return null;
+    }
+
+    private PerformanceDTO performanceDto(Tool tool) {
+        AssessmentScore assessmentScore = tool.getAssessment().getAssessmentScore();
+        return new PerformanceDTO(tool.getId(), tool.getName(), assessmentScore.getTotal(),
+                assessmentScore.getAcceleration(), assessmentScore.getIntelligence(),
+                assessmentScore.getExperience(), assessmentScore.getValue());
+    }
+
+    static ToolDto toolDto(Tool tool, Set<ToolField> fields) {
         ToolDto toolDto = new ToolDto();
         toolDto.setId(tool.getId());
         toolDto.setName(tool.getName());
@@ -78,36 +371,49 @@ public class ToolService {
         toolDto.setStatus(tool.getStatus());
         toolDto.setLastAssessment(tool.getLastAssessment());
         toolDto.setCategory(tool.getCategory());
-        toolDto.setAssessment(tool.getAssessment() == null ? null : new AssessmentDTO());
-        setToolAssessment(toolDto.getAssessment(), tool.getAssessment());
+        if (!fields.isEmpty() && tool.getAssessment() != null) {
+            toolDto.setAssessment(new AssessmentDTO());
+            setToolAssessment(toolDto.getAssessment(), tool.getAssessment(), fields);
+        }
         return toolDto;
     }
 
-    private void setToolAssessment(AssessmentDTO assessmentDto, Assessment assessment) {
+    private static void setToolAssessment(AssessmentDTO assessmentDto, Assessment assessment, Set<ToolField> fields) {
         assessmentDto.setId(assessment.getId());
-        assessmentDto.setScore(new AssessmentScore());
-        setToolAssessmentScore(assessmentDto.getScore(), assessment.getAssessmentScore());
-        assessmentDto.setCategories(new ArrayList<>());
-        setToolAssessmentCategories(assessmentDto.getCategories(), assessment.getCategories());
+        assessmentDto.setVersion(assessment.getVersion());
+        if (fields.contains(ToolField.ASSESSMENT)) {
+            assessmentDto.setScore(new AssessmentScore());
+            setToolAssessmentScore(assessmentDto.getScore(), assessment.getAssessmentScore());
+        }
+        if (fields.contains(ToolField.CATEGORIES) || fields.contains(ToolField.NOTES)) {
+            assessmentDto.setCategories(new ArrayList<>());
+            setToolAssessmentCategories(assessmentDto.getCategories(), assessment.getCategories(), fields);
+        }
     }
 
-    private void setToolAssessmentScore(AssessmentScore assessmentScoreDto, AssessmentScore assessmentScore) {
+    private static void setToolAssessmentScore(AssessmentScore assessmentScoreDto, AssessmentScore assessmentScore) {
         assessmentScoreDto.setId(assessmentScore.getId());
         assessmentScoreDto.setAcceleration(assessmentScore.getAcceleration());
         assessmentScoreDto.setExperience(assessmentScore.getExperience());
         assessmentScoreDto.setIntelligence(assessmentScore.getIntelligence());
         assessmentScoreDto.setValue(assessmentScore.getValue());
         assessmentScoreDto.setTotal(assessmentScore.getTotal());
+        assessmentScoreDto.setVersion(assessmentScore.getVersion());
     }
 
-    private void setToolAssessmentCategories(List<AssessmentCategoryDto> assessmentCategoryDtos, List<AssessmentCategory> assessmentCategories) {
+    static void setToolAssessmentCategories(List<AssessmentCategoryDto> assessmentCategoryDtos,
+                                             List<AssessmentCategory> assessmentCategories, Set<ToolField> fields) {
         assessmentCategories.forEach(assessmentCategory -> {
             AssessmentCategoryDto assessmentCategoryDto = new AssessmentCategoryDto();
             assessmentCategoryDto.setId(assessmentCategory.getId());
             assessmentCategoryDto.setName(assessmentCategory.getName());
-            assessmentCategoryDto.setScore(assessmentCategory.getScore());
-            assessmentCategoryDto.setNote(assessmentCategory.getNote());
+            if (fields.contains(ToolField.CATEGORIES)) {
+                assessmentCategoryDto.setScore(assessmentCategory.getScore());
+            }
+            if (fields.contains(ToolField.NOTES)) {
+                assessmentCategoryDto.setNote(assessmentCategory.getNote());
+            }
             assessmentCategoryDtos.add(assessmentCategoryDto);
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.codingassistant.service;
+
+import com.codingassistant.dto.LeaderboardDTO;
+import com.codingassistant.dto.PerformanceDTO;
+import com.codingassistant.event.ToolScoresUpdatedEvent;
+import com.codingassistant.repository.SubScoreRankingRepository;
+import com.codingassistant.repository.ToolRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Leaderboards as they would look under another {@link ScoringProfile}, computed from the stored sub-scores without
+ * writing anything. The sub-score matrix is loaded once and each profile is re-scored over it in one parallel pass;
+ * scores and rankings are kept per profile until a score change or {@code scorecard.leaderboard.max-age} reloads it.
+ */
+@Component
+public class WhatIfLeaderboard {
+
+    private final SubScoreRankingRepository subScoreRankingRepository;
+    private final ToolRepository toolRepository;
+    private final ScoringEngine scoringEngine;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final long maxAgeNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public WhatIfLeaderboard(SubScoreRankingRepository subScoreRankingRepository, ToolRepository toolRepository,
+                             ScoringEngine scoringEngine, DatabaseBulkhead databaseBulkhead,
+                             @Value("${scorecard.leaderboard.max-age}") Duration maxAge) {
+        this.subScoreRankingRepository = subScoreRankingRepository;
+        this.toolRepository = toolRepository;
+        this.scoringEngine = scoringEngine;
+        this.databaseBulkhead = databaseBulkhead;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public LeaderboardDTO top(String profileName, LeaderboardSortKey sortKey, int limit) {
+        ScoringProfile profile = scoringEngine.getProfile(profileName);
+        Snapshot current = currentSnapshot();
+        Ranking ranking = current.ranking(profile, sortKey, scoringEngine);
+        int size = Math.min(limit, ranking.performances.length);
+        List<PerformanceDTO> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(Leaderboard.ranked(ranking.performances[i], ranking.ranks[i]));
+        }
+        return new LeaderboardDTO(result, current.lastModified);
+    }
+
+    // Sub-scores are not part of the event, so the matrix is dropped and reloaded by the next what-if request.
+    @TransactionalEventListener
+    public void onToolScoresUpdated(ToolScoresUpdatedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.loadedAt > maxAgeNanos) {
+            lock.lock();
+            try {
+                // As in Leaderboard, the watermark is read before the sub-scores.
+                if (snapshot == current) {
+                    snapshot = databaseBulkhead.call(() -> {
+                        LocalDateTime lastModified = toolRepository.findLatestAssessmentUpdate().orElse(null);
+                        return new Snapshot(subScoreRankingRepository.findSubScoreMatrix(), lastModified, System.nanoTime());
+                    });
+                }
+                current = snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        private final SubScoreMatrix matrix;
+        private final LocalDateTime lastModified;
+        private final long loadedAt;
+        private final Map<String, PerformanceDTO[]> performances = new ConcurrentHashMap<>();
+        private final Map<String, Ranking> rankings = new ConcurrentHashMap<>();
+
+        private Snapshot(SubScoreMatrix matrix, LocalDateTime lastModified, long loadedAt) {
+            this.matrix = matrix;
+            this.lastModified = lastModified;
+            this.loadedAt = loadedAt;
+        }
+
+        Ranking ranking(ScoringProfile profile, LeaderboardSortKey sortKey, ScoringEngine scoringEngine) {
+            return rankings.computeIfAbsent(profile.getName() + "/" + sortKey, key -> {
+                PerformanceDTO[] ranking = performances(profile, scoringEngine).clone();
+                Arrays.parallelSort(ranking, sortKey.comparator());
+                return new Ranking(ranking, Leaderboard.ranks(ranking, sortKey));
+            });
+        }
+
+        private PerformanceDTO[] performances(ScoringProfile profile, ScoringEngine scoringEngine) {
+            return performances.computeIfAbsent(profile.getName(), name -> {
+                int[] scores = scoringEngine.rescore(profile, matrix);
+                PerformanceDTO[] result = new PerformanceDTO[matrix.size()];
+                for (int i = 0; i < result.length; i++) {
+                    int offset = i * ScoringProfile.SCORES;
+                    result[i] = new PerformanceDTO(matrix.id(i), matrix.name(i), scores[offset + ScoringProfile.TOTAL],
+                            scores[offset + ScoringProfile.ACCELERATION], scores[offset + ScoringProfile.INTELLIGENCE],
+                            scores[offset + ScoringProfile.EXPERIENCE], scores[offset + ScoringProfile.VALUE]);
+                }
+                return result;
+            });
+        }
+    }
+
+    private static final class Ranking {
+        private final PerformanceDTO[] performances;
+        private final int[] ranks;
+
+        private Ranking(PerformanceDTO[] performances, int[] ranks) {
+            this.performances = performances;
+            this.ranks = ranks;
+        }
+    }
+}
@@ -14,6 +14,11 @@ CREATE TABLE public.tools (
 	category varchar(50) NULL,
 	CONSTRAINT tools_pkey PRIMARY KEY (id)
 );
+CREATE INDEX idx_tools_status_id ON public.tools USING btree (status, id);
+CREATE INDEX idx_tools_category_id ON public.tools USING btree (category, id);
+-- Ids are handed out in blocks of 50 (the entities' pooled-lo generators); inserts through the serial default spend
+-- a whole block each, so bulk SQL inserts reserve blocks and number their rows themselves
+ALTER SEQUENCE public.tools_id_seq INCREMENT BY 50;
 
 
 -- public.assessments definition
@@ -27,11 +32,24 @@ CREATE TABLE public.assessments (
 	tool_id int4 NOT NULL,
 	created_at timestamptz DEFAULT CURRENT_TIMESTAMP NULL,
 	updated_at timestamptz DEFAULT CURRENT_TIMESTAMP NULL,
+	"version" int8 DEFAULT 0 NOT NULL,
 	CONSTRAINT assessments_pkey PRIMARY KEY (id),
 	CONSTRAINT assessments_tool_id_key UNIQUE (tool_id),
 	CONSTRAINT assessments_tool_id_fkey FOREIGN KEY (tool_id) REFERENCES public.tools(id) ON DELETE CASCADE
 );
 CREATE INDEX idx_assessment_tool ON public.assessments USING btree (tool_id);
+CREATE INDEX idx_assessments_updated_at ON public.assessments USING btree (updated_at);
+ALTER SEQUENCE public.assessments_id_seq INCREMENT BY 50;
+
+-- Trigger Functions
+
+CREATE OR REPLACE FUNCTION public.update_updated_at_column()
+RETURNS trigger AS $$
+BEGIN
+	NEW.updated_at = now();
+	RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
 
 -- Table Triggers
 
@@ -41,6 +59,18 @@ update
     public.assessments for each row execute function update_updated_at_column();
 
 
+-- Search Functions
+
+-- Notes are stored as {"note": "<JSON object of sub-score notes>" } (AssessmentService.CATEGORY_NOTE_FORMAT), with the
+-- object unescaped inside the wrapper; only its values are searchable text. Anything else is searched as written.
+CREATE OR REPLACE FUNCTION public.note_search_text(note text)
+RETURNS text AS $$
+	SELECT CASE WHEN note ~ '^\{"note": "\{.*\}" \}$'
+		THEN (SELECT string_agg(value, E'\n') FROM jsonb_each_text(substring(note FROM 11 FOR length(note) - 13)::jsonb))
+		ELSE note END;
+$$ LANGUAGE sql IMMUTABLE;
+
+
 -- public.assessment_categories definition
 
 -- Drop table
@@ -51,13 +81,27 @@ CREATE TABLE public.assessment_categories (
 	id serial4 NOT NULL,
 	assessment_id int4 NOT NULL,
 	"name" varchar(50) NOT NULL,
-	score text NOT NULL,
+	score jsonb NOT NULL,
 	created_at timestamptz DEFAULT CURRENT_TIMESTAMP NULL,
 	note text NULL,
+	note_search tsvector GENERATED ALWAYS AS (to_tsvector('english'::regconfig, coalesce(public.note_search_text(note), ''))) STORED,
 	CONSTRAINT assessment_categories_pkey PRIMARY KEY (id),
 	CONSTRAINT assessment_categories_assessment_id_fkey FOREIGN KEY (assessment_id) REFERENCES public.assessments(id) ON DELETE CASCADE
 );
 CREATE INDEX idx_assessment_categories ON public.assessment_categories USING btree (assessment_id);
+CREATE INDEX idx_assessment_categories_score ON public.assessment_categories USING gin (score jsonb_path_ops);
+CREATE INDEX idx_assessment_categories_note_search ON public.assessment_categories USING gin (note_search);
+CREATE INDEX idx_category_autonomy ON public.assessment_categories USING btree ((((score -> 'score') ->> 'autonomy')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Intelligence';
+CREATE INDEX idx_category_output_quality ON public.assessment_categories USING btree ((((score -> 'score') ->> 'outputQuality')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Intelligence';
+CREATE INDEX idx_category_context_awareness ON public.assessment_categories USING btree ((((score -> 'score') ->> 'contextAwareness')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Intelligence';
+CREATE INDEX idx_category_capabilities ON public.assessment_categories USING btree ((((score -> 'score') ->> 'capabilities')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Acceleration';
+CREATE INDEX idx_category_iteration_size ON public.assessment_categories USING btree ((((score -> 'score') ->> 'iterationSize')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Acceleration';
+CREATE INDEX idx_category_iteration_speed ON public.assessment_categories USING btree ((((score -> 'score') ->> 'iterationSpeed')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Acceleration';
+CREATE INDEX idx_category_ease_of_use ON public.assessment_categories USING btree ((((score -> 'score') ->> 'easeOfUse')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Experience';
+CREATE INDEX idx_category_flexibility ON public.assessment_categories USING btree ((((score -> 'score') ->> 'flexibility')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Experience';
+CREATE INDEX idx_category_reliability ON public.assessment_categories USING btree ((((score -> 'score') ->> 'reliability')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Experience';
+CREATE INDEX idx_category_value ON public.assessment_categories USING btree ((((score -> 'score') ->> 'value')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Value';
+ALTER SEQUENCE public.assessment_categories_id_seq INCREMENT BY 50;
 
 
 -- public.assessment_scores definition
@@ -74,8 +118,73 @@ CREATE TABLE public.assessment_scores (
 	acceleration numeric(5, 2) NULL,
 	experience numeric(5, 2) NULL,
 	value numeric(5, 2) NULL,
+	"version" int8 DEFAULT 0 NOT NULL,
 	CONSTRAINT assessment_scores_assessment_id_key UNIQUE (assessment_id),
 	CONSTRAINT assessment_scores_pkey PRIMARY KEY (id),
 	CONSTRAINT assessment_scores_assessment_id_fkey FOREIGN KEY (assessment_id) REFERENCES public.assessments(id) ON DELETE CASCADE
 );
-CREATE INDEX idx_assessment_scores ON public.assessment_scores USING btree (assessment_id);
\ No newline at end of file
+CREATE INDEX idx_assessment_scores ON public.assessment_scores USING btree (assessment_id);
+ALTER SEQUENCE public.assessment_scores_id_seq INCREMENT BY 50;
+
+
+-- public.rescore_jobs definition
+
+-- Drop table
+
+-- DROP TABLE public.rescore_jobs;
+
+CREATE TABLE public.rescore_jobs (
+	id bigserial NOT NULL,
+	profile varchar(100) NOT NULL,
+	status varchar(20) NOT NULL,
+	total_tools int8 NOT NULL,
+	processed_tools int8 DEFAULT 0 NOT NULL,
+	updated_tools int8 DEFAULT 0 NOT NULL,
+	last_tool_id int8 DEFAULT 0 NOT NULL,
+	error text NULL,
+	started_at timestamptz DEFAULT CURRENT_TIMESTAMP NOT NULL,
+	updated_at timestamptz DEFAULT CURRENT_TIMESTAMP NOT NULL,
+	finished_at timestamptz NULL,
+	CONSTRAINT rescore_jobs_pkey PRIMARY KEY (id)
+);
+
+
+-- public.assessment_history definition
+
+-- Drop table
+
+-- DROP TABLE public.assessment_history;
+
+-- Monthly partitions are created by the application (AssessmentHistoryService)
+CREATE TABLE public.assessment_history (
+	tool_id int4 NOT NULL,
+	recorded_at timestamptz NOT NULL,
+	total int2 NOT NULL,
+	acceleration int2 NOT NULL,
+	intelligence int2 NOT NULL,
+	experience int2 NOT NULL,
+	value int2 NOT NULL
+) PARTITION BY RANGE (recorded_at);
+CREATE TABLE public.assessment_history_default PARTITION OF public.assessment_history DEFAULT;
+CREATE INDEX idx_assessment_history_recorded_at ON public.assessment_history USING brin (recorded_at);
+CREATE INDEX idx_assessment_history_tool ON public.assessment_history USING btree (tool_id, recorded_at);
+
+
+-- public.assessment_history_monthly definition
+
+-- Drop table
+
+-- DROP TABLE public.assessment_history_monthly;
+
+-- Each tool's latest snapshot at the end of every closed month, rolled up by the application
+CREATE TABLE public.assessment_history_monthly (
+	"month" date NOT NULL,
+	tool_id int4 NOT NULL,
+	recorded_at timestamptz NOT NULL,
+	total int2 NOT NULL,
+	acceleration int2 NOT NULL,
+	intelligence int2 NOT NULL,
+	experience int2 NOT NULL,
+	value int2 NOT NULL,
+	CONSTRAINT assessment_history_monthly_pkey PRIMARY KEY ("month", tool_id)
+);
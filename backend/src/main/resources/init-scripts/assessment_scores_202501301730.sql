@@ -1,8 +1,9 @@
-INSERT INTO public.assessment_scores (assessment_id,total,intelligence,acceleration,experience,value) VALUES
-	 (1,73.00,21.00,23.00,23.00,6.00),
-	 (2,54.00,14.00,15.00,18.00,7.00),
-	 (3,49.00,12.00,13.00,15.00,9.00),
-	 (4,62.00,18.00,18.00,20.00,6.00),
-	 (5,82.00,23.00,26.00,26.00,7.00),
-	 (6,66.00,18.00,20.00,20.00,8.00),
-	 (7,41.00,10.00,11.00,11.00,9.00);
+INSERT INTO public.assessment_scores (id,assessment_id,total,intelligence,acceleration,experience,value) VALUES
+	 (1,1,73.00,21.00,23.00,23.00,6.00),
+	 (2,2,54.00,14.00,15.00,18.00,7.00),
+	 (3,3,49.00,12.00,13.00,15.00,9.00),
+	 (4,4,62.00,18.00,18.00,20.00,6.00),
+	 (5,5,82.00,23.00,26.00,26.00,7.00),
+	 (6,6,66.00,18.00,20.00,20.00,8.00),
+	 (7,7,41.00,10.00,11.00,11.00,9.00);
+SELECT setval('public.assessment_scores_id_seq', (SELECT max(id) + 1 FROM public.assessment_scores), false);
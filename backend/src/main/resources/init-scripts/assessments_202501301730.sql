@@ -1,8 +1,9 @@
-INSERT INTO public.assessments (tool_id,created_at,updated_at) VALUES
-	 (1,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
-	 (2,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
-	 (3,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
-	 (4,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
-	 (5,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
-	 (6,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
-	 (7,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30');
+INSERT INTO public.assessments (id,tool_id,created_at,updated_at) VALUES
+	 (1,1,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
+	 (2,2,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
+	 (3,3,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
+	 (4,4,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
+	 (5,5,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
+	 (6,6,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30'),
+	 (7,7,'2025-01-30 12:11:44.07832+05:30','2025-01-30 12:11:44.07832+05:30');
+SELECT setval('public.assessments_id_seq', (SELECT max(id) + 1 FROM public.assessments), false);
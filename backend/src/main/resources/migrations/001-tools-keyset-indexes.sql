@@ -0,0 +1,5 @@
+-- Keyset pagination on tools.id filtered by status / category (GET /tools)
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tools_status_id ON public.tools USING btree (status, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tools_category_id ON public.tools USING btree (category, id);
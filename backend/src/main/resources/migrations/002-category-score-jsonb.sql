@@ -0,0 +1,18 @@
+-- Store per-category sub-scores as jsonb instead of JSON-in-text so they can be
+-- filtered and ranked server-side (GET /tools/rankings).
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+-- Existing rows already hold valid JSON ({"score": {...} }), so the cast converts them in place.
+
+ALTER TABLE public.assessment_categories ALTER COLUMN score TYPE jsonb USING score::jsonb;
+
+CREATE INDEX IF NOT EXISTS idx_assessment_categories_score ON public.assessment_categories USING gin (score jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS idx_category_autonomy ON public.assessment_categories USING btree ((((score -> 'score') ->> 'autonomy')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Intelligence';
+CREATE INDEX IF NOT EXISTS idx_category_output_quality ON public.assessment_categories USING btree ((((score -> 'score') ->> 'outputQuality')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Intelligence';
+CREATE INDEX IF NOT EXISTS idx_category_context_awareness ON public.assessment_categories USING btree ((((score -> 'score') ->> 'contextAwareness')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Intelligence';
+CREATE INDEX IF NOT EXISTS idx_category_capabilities ON public.assessment_categories USING btree ((((score -> 'score') ->> 'capabilities')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Acceleration';
+CREATE INDEX IF NOT EXISTS idx_category_iteration_size ON public.assessment_categories USING btree ((((score -> 'score') ->> 'iterationSize')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Acceleration';
+CREATE INDEX IF NOT EXISTS idx_category_iteration_speed ON public.assessment_categories USING btree ((((score -> 'score') ->> 'iterationSpeed')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Acceleration';
+CREATE INDEX IF NOT EXISTS idx_category_ease_of_use ON public.assessment_categories USING btree ((((score -> 'score') ->> 'easeOfUse')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Experience';
+CREATE INDEX IF NOT EXISTS idx_category_flexibility ON public.assessment_categories USING btree ((((score -> 'score') ->> 'flexibility')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Experience';
+CREATE INDEX IF NOT EXISTS idx_category_reliability ON public.assessment_categories USING btree ((((score -> 'score') ->> 'reliability')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Experience';
+CREATE INDEX IF NOT EXISTS idx_category_value ON public.assessment_categories USING btree ((((score -> 'score') ->> 'value')::int) DESC NULLS LAST, assessment_id) WHERE "name" = 'Value';
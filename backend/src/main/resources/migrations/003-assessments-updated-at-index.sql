@@ -0,0 +1,4 @@
+-- max(updated_at) watermark behind the ETag / Last-Modified headers on tool and performance reads
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_assessments_updated_at ON public.assessments USING btree (updated_at);
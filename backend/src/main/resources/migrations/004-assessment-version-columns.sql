@@ -0,0 +1,6 @@
+-- Optimistic locking (@Version) on assessments and assessment_scores; PUT /tools/{id} honours If-Match
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+-- ADD COLUMN with a constant default is metadata-only on PostgreSQL 11+, so no table rewrite.
+
+ALTER TABLE public.assessments ADD COLUMN IF NOT EXISTS "version" int8 DEFAULT 0 NOT NULL;
+ALTER TABLE public.assessment_scores ADD COLUMN IF NOT EXISTS "version" int8 DEFAULT 0 NOT NULL;
@@ -0,0 +1,17 @@
+-- Progress and resumable checkpoints of bulk re-scoring jobs (POST /tools/rescore-jobs)
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+
+CREATE TABLE IF NOT EXISTS public.rescore_jobs (
+	id bigserial NOT NULL,
+	profile varchar(100) NOT NULL,
+	status varchar(20) NOT NULL,
+	total_tools int8 NOT NULL,
+	processed_tools int8 DEFAULT 0 NOT NULL,
+	updated_tools int8 DEFAULT 0 NOT NULL,
+	last_tool_id int8 DEFAULT 0 NOT NULL,
+	error text NULL,
+	started_at timestamptz DEFAULT CURRENT_TIMESTAMP NOT NULL,
+	updated_at timestamptz DEFAULT CURRENT_TIMESTAMP NOT NULL,
+	finished_at timestamptz NULL,
+	CONSTRAINT rescore_jobs_pkey PRIMARY KEY (id)
+);
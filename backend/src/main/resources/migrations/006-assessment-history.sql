@@ -0,0 +1,31 @@
+-- Append-only score snapshots behind GET /tools/{id}/history and GET /tools/performances?asOf=
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+-- Monthly partitions are created by the application (AssessmentHistoryService), which also records a baseline
+-- snapshot for every tool that has none yet; the default partition only catches rows outside those months.
+-- assessment_history_monthly holds every tool's latest snapshot at the end of each closed month, rolled up by the
+-- application, so an as-of query only has to read one month of raw snapshots.
+
+CREATE TABLE IF NOT EXISTS public.assessment_history (
+	tool_id int4 NOT NULL,
+	recorded_at timestamptz NOT NULL,
+	total int2 NOT NULL,
+	acceleration int2 NOT NULL,
+	intelligence int2 NOT NULL,
+	experience int2 NOT NULL,
+	value int2 NOT NULL
+) PARTITION BY RANGE (recorded_at);
+CREATE TABLE IF NOT EXISTS public.assessment_history_default PARTITION OF public.assessment_history DEFAULT;
+CREATE INDEX IF NOT EXISTS idx_assessment_history_recorded_at ON public.assessment_history USING brin (recorded_at);
+CREATE INDEX IF NOT EXISTS idx_assessment_history_tool ON public.assessment_history USING btree (tool_id, recorded_at);
+
+CREATE TABLE IF NOT EXISTS public.assessment_history_monthly (
+	"month" date NOT NULL,
+	tool_id int4 NOT NULL,
+	recorded_at timestamptz NOT NULL,
+	total int2 NOT NULL,
+	acceleration int2 NOT NULL,
+	intelligence int2 NOT NULL,
+	experience int2 NOT NULL,
+	value int2 NOT NULL,
+	CONSTRAINT assessment_history_monthly_pkey PRIMARY KEY ("month", tool_id)
+);
@@ -0,0 +1,17 @@
+-- Full-text search over category notes (GET /tools/search)
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+-- Adding a stored generated column rewrites assessment_categories once; afterwards PostgreSQL keeps note_search
+-- current on every write of note, whichever path it comes from (PUT, batch, write-behind flush).
+
+-- Notes are stored as {"note": "<JSON object of sub-score notes>" } (AssessmentService.CATEGORY_NOTE_FORMAT), with the
+-- object unescaped inside the wrapper; only its values are searchable text. Anything else is searched as written.
+CREATE OR REPLACE FUNCTION public.note_search_text(note text)
+RETURNS text AS $$
+	SELECT CASE WHEN note ~ '^\{"note": "\{.*\}" \}$'
+		THEN (SELECT string_agg(value, E'\n') FROM jsonb_each_text(substring(note FROM 11 FOR length(note) - 13)::jsonb))
+		ELSE note END;
+$$ LANGUAGE sql IMMUTABLE;
+
+ALTER TABLE public.assessment_categories ADD COLUMN IF NOT EXISTS note_search tsvector
+	GENERATED ALWAYS AS (to_tsvector('english'::regconfig, coalesce(public.note_search_text(note), ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_assessment_categories_note_search ON public.assessment_categories USING gin (note_search);
@@ -0,0 +1,9 @@
+-- Pooled-lo id allocation: Hibernate takes one nextval per 50 new rows instead of one per row
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+-- Apply before starting the new version: Hibernate refuses to start while a sequence's increment differs from the
+-- entity's allocationSize. Existing ids are untouched; each nextval now reserves the 50 values from its result on.
+
+ALTER SEQUENCE public.tools_id_seq INCREMENT BY 50;
+ALTER SEQUENCE public.assessments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE public.assessment_scores_id_seq INCREMENT BY 50;
+ALTER SEQUENCE public.assessment_categories_id_seq INCREMENT BY 50;
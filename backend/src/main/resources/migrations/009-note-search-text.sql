@@ -0,0 +1,16 @@
+-- note_search indexed the raw note: the previous note_search_text() cast the whole stored note to jsonb, which the
+-- {"note": "..." } wrapper never parses as, so sub-score names were searchable and showed up in snippets.
+-- Already part of init-scripts/01-schema.sql for fresh databases.
+-- Replacing the function does not recompute stored generated columns; the no-op UPDATE rewrites assessment_categories
+-- once so every note_search is rebuilt with it.
+
+-- Notes are stored as {"note": "<JSON object of sub-score notes>" } (AssessmentService.CATEGORY_NOTE_FORMAT), with the
+-- object unescaped inside the wrapper; only its values are searchable text. Anything else is searched as written.
+CREATE OR REPLACE FUNCTION public.note_search_text(note text)
+RETURNS text AS $$
+	SELECT CASE WHEN note ~ '^\{"note": "\{.*\}" \}$'
+		THEN (SELECT string_agg(value, E'\n') FROM jsonb_each_text(substring(note FROM 11 FOR length(note) - 13)::jsonb))
+		ELSE note END;
+$$ LANGUAGE sql IMMUTABLE;
+
+UPDATE public.assessment_categories SET note = note;
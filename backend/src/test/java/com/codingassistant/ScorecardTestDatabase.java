@@ -0,0 +1,40 @@
+package com.codingassistant;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Embedded PostgreSQL (zonky binaries, no Docker) loaded with init-scripts, for tests that need the real schema.
+public final class ScorecardTestDatabase {
+
+    private static final String[] SCRIPTS = {
+            "init-scripts/01-schema.sql",
+            "init-scripts/tools_202501301730.sql",
+            "init-scripts/assessments_202501301730.sql",
+            "init-scripts/assessment_scores_202501301730.sql",
+            "init-scripts/assessment_categories_202501301730.sql"
+    };
+
+    private ScorecardTestDatabase() {
+    }
+
+    public static EmbeddedPostgres start() throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String script : SCRIPTS) {
+                statement.execute(new ClassPathResource(script).getContentAsString(StandardCharsets.UTF_8));
+            }
+        }
+        return postgres;
+    }
+
+    public static String jdbcUrl(EmbeddedPostgres postgres) {
+        return postgres.getJdbcUrl("postgres", "postgres");
+    }
+}
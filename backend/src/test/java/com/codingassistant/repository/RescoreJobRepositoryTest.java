@@ -0,0 +1,107 @@
+package com.codingassistant.repository;
+
+import com.codingassistant.ScorecardTestDatabase;
+import com.codingassistant.model.Assessment;
+import com.codingassistant.service.RescoreChunk;
+import com.codingassistant.service.ScoringProfile;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RescoreJobRepositoryTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private RescoreJobRepository rescoreJobRepository;
+
+    @Autowired
+    private ToolRepository toolRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        postgres = ScorecardTestDatabase.start();
+        registry.add("spring.datasource.url", () -> ScorecardTestDatabase.jdbcUrl(postgres));
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    // A PUT that has written tool 1 but not yet committed when the chunk is written: the chunk waits for it and then
+    // leaves tool 1 alone, since its assessment moved past the version the chunk was read at.
+    @Test
+    void chunkWrittenDuringPutKeepsThePutsScores() throws Exception {
+        RescoreChunk chunk = rescoreJobRepository.findChunk(0, 100);
+        int[] scores = new int[chunk.size() * ScoringProfile.SCORES];
+        Arrays.fill(scores, 1);
+
+        CountDownLatch putWritten = new CountDownLatch(1);
+        CountDownLatch commitPut = new CountDownLatch(1);
+        CompletableFuture<Void> put = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            Assessment assessment = toolRepository.findWithAssessmentById(1L).orElseThrow().getAssessment();
+            assessment.getAssessmentScore().setTotal(99);
+            assessment.markUpdated();
+            entityManager.flush();
+            putWritten.countDown();
+            await(commitPut);
+        }));
+        await(putWritten);
+
+        CompletableFuture<long[]> written = CompletableFuture.supplyAsync(
+                () -> transactionTemplate.execute(status -> rescoreJobRepository.writeScores(chunk, scores)));
+        awaitLockWait();
+        commitPut.countDown();
+        put.get(10, TimeUnit.SECONDS);
+        long[] rewritten = written.get(10, TimeUnit.SECONDS);
+
+        assertThat(rewritten).doesNotContain(1L).hasSize(chunk.size() - 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT s.total FROM assessment_scores s " +
+                "JOIN assessments a ON a.id = s.assessment_id WHERE a.tool_id = 1", Integer.class)).isEqualTo(99);
+    }
+
+    // Until the chunk's statement is blocked on a row lock held by the PUT.
+    private void awaitLockWait() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("SELECT count(*) FROM pg_locks WHERE NOT granted", Integer.class) == 0) {
+            assertThat(System.nanoTime()).as("chunk waiting on the PUT").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
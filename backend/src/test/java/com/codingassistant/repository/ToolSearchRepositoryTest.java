@@ -0,0 +1,55 @@
+package com.codingassistant.repository;
+
+import com.codingassistant.ScorecardTestDatabase;
+import com.codingassistant.dto.ToolSearchResultDTO;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Against the seed notes, which are stored the way AssessmentService writes them: {"note": "{...}" }.
+@SpringBootTest
+class ToolSearchRepositoryTest {
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ToolSearchRepository toolSearchRepository;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        postgres = ScorecardTestDatabase.start();
+        registry.add("spring.datasource.url", () -> ScorecardTestDatabase.jdbcUrl(postgres));
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void subScoreNamesAreNotSearchable() {
+        for (String key : List.of("autonomy", "contextAwareness", "outputQuality", "easeOfUse", "iterationSpeed", "note")) {
+            assertThat(toolSearchRepository.search(key, null, 50)).as(key).isEmpty();
+        }
+    }
+
+    @Test
+    void snippetsHoldOnlyNoteText() {
+        List<ToolSearchResultDTO> results = toolSearchRepository.search("Copilot", null, 50);
+
+        assertThat(results).isNotEmpty();
+        assertThat(results).allSatisfy(result -> assertThat(result.getSnippet())
+                .contains("<mark>")
+                .doesNotContain("{", "}", "\":", "note\""));
+    }
+}
@@ -0,0 +1,132 @@
+package com.codingassistant.service;
+
+import com.codingassistant.ScorecardTestDatabase;
+import com.codingassistant.dto.ToolAssessmentUpdateDTO;
+import com.codingassistant.dto.ToolUpdateResultDTO;
+import com.codingassistant.model.Assessment;
+import com.codingassistant.repository.ToolRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ToolServiceBatchUpdateTest {
+
+    private static final String UPDATE = """
+            {"scores":{"acceleration":{"capabilities":3,"iterationSize":6,"iterationSpeed":8},
+             "intelligence":{"autonomy":7,"outputQuality":8,"contextAwareness":6},
+             "experience":{"easeOfUse":7,"flexibility":7,"reliability":8},"value":{"value":7}},
+             "notes":{"acceleration":{"capabilities":"a","iterationSize":"b","iterationSpeed":"c"},
+             "intelligence":{"autonomy":"d","outputQuality":"e","contextAwareness":"f"},
+             "experience":{"easeOfUse":"g","flexibility":"h","reliability":"i"},"value":{"value":"j"}}}
+            """;
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ToolService toolService;
+
+    @Autowired
+    private ToolRepository toolRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        postgres = ScorecardTestDatabase.start();
+        registry.add("spring.datasource.url", () -> ScorecardTestDatabase.jdbcUrl(postgres));
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    // A PUT of tool 1 commits while the batch waits for its rows: only tool 1 is a conflict, tool 2 is still written.
+    @Test
+    void concurrentCommitIsReportedForItsToolOnly() throws Exception {
+        List<ToolAssessmentUpdateDTO> updates = List.of(update(1L), update(2L));
+
+        CountDownLatch putWritten = new CountDownLatch(1);
+        CountDownLatch commitPut = new CountDownLatch(1);
+        CompletableFuture<Void> put = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            Assessment assessment = toolRepository.findWithAssessmentById(1L).orElseThrow().getAssessment();
+            assessment.getAssessmentScore().setTotal(99);
+            assessment.markUpdated();
+            entityManager.flush();
+            putWritten.countDown();
+            await(commitPut);
+        }));
+        await(putWritten);
+
+        CompletableFuture<List<ToolUpdateResultDTO>> batch = CompletableFuture.supplyAsync(() -> {
+            try {
+                return toolService.updateTools(updates);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        awaitLockWait();
+        commitPut.countDown();
+        put.get(10, TimeUnit.SECONDS);
+        List<ToolUpdateResultDTO> results = batch.get(10, TimeUnit.SECONDS);
+
+        assertThat(results).extracting(ToolUpdateResultDTO::getStatus)
+                .containsExactly(ToolUpdateResultDTO.CONFLICT, ToolUpdateResultDTO.UPDATED);
+        assertThat(jdbcTemplate.queryForObject("SELECT s.total FROM assessment_scores s " +
+                "JOIN assessments a ON a.id = s.assessment_id WHERE a.tool_id = 1", Integer.class)).isEqualTo(99);
+    }
+
+    // Expects the version the tool had before the PUT.
+    private ToolAssessmentUpdateDTO update(long toolId) throws IOException {
+        ToolAssessmentUpdateDTO update = objectMapper.readValue(UPDATE, ToolAssessmentUpdateDTO.class);
+        update.setToolId(toolId);
+        update.setVersion(jdbcTemplate.queryForObject("SELECT version FROM assessments WHERE tool_id = ?", Long.class, toolId));
+        return update;
+    }
+
+    // Until the batch is blocked on a row lock held by the PUT.
+    private void awaitLockWait() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("SELECT count(*) FROM pg_locks WHERE NOT granted", Integer.class) == 0) {
+            assertThat(System.nanoTime()).as("batch waiting on the PUT").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.codingassistant.service;
+
+import com.codingassistant.ScorecardTestDatabase;
+import com.codingassistant.dto.ToolPageDTO;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Listing the catalog must take the same number of statements however many tools it holds: no per-tool lazy loads.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ToolServiceStatementCountTest {
+
+    private static final int TOOLS = 50;
+
+    private static EmbeddedPostgres postgres;
+    private static int templates;
+
+    @Autowired
+    private ToolService toolService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException, SQLException {
+        postgres = ScorecardTestDatabase.start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM public.tools")) {
+            resultSet.next();
+            templates = resultSet.getInt(1);
+        }
+        registry.add("spring.datasource.url", () -> ScorecardTestDatabase.jdbcUrl(postgres));
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void listingTenTimesTheToolsTakesTheSameStatements() {
+        ToolQuery query = new ToolQuery(0, 10 * TOOLS, null, null, EnumSet.allOf(ToolField.class));
+
+        seed(TOOLS);
+        ToolPageDTO small = toolService.getTools(query);
+        long smallStatements = lastStatementCount();
+
+        seed(10 * TOOLS);
+        ToolPageDTO large = toolService.getTools(query);
+        long largeStatements = lastStatementCount();
+
+        assertThat(small.getTools()).hasSize(TOOLS);
+        assertThat(large.getTools()).hasSize(10 * TOOLS);
+        assertThat(large.getTools()).allSatisfy(tool -> assertThat(tool.getAssessment().getCategories()).hasSize(4));
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    // Clones the seeded tools up to toolCount, then clears every cache so the next read starts cold. Clone i copies
+    // seeded tool 1 + (i - 1) % templates with its score row and categories; tool, assessment and score ids are i.
+    private void seed(int toolCount) {
+        transactionTemplate.executeWithoutResult(status -> insertClones(toolCount));
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.getCache().evictAll();
+        statistics().clear();
+    }
+
+    private void insertClones(int toolCount) {
+        int existing = jdbcTemplate.queryForObject("SELECT count(*) FROM public.tools", Integer.class);
+        jdbcTemplate.update("""
+                INSERT INTO public.tools (id, "name", score, status, description, last_assessment, category)
+                SELECT g, t."name" || ' #' || g, t.score, t.status, t.description, t.last_assessment, t.category
+                FROM generate_series(?, ?) g
+                JOIN public.tools t ON t.id = 1 + (g - 1) % ?
+                """, existing + 1, toolCount, templates);
+        jdbcTemplate.update("""
+                INSERT INTO public.assessments (id, tool_id)
+                SELECT t.id, t.id FROM public.tools t WHERE NOT EXISTS (SELECT 1 FROM public.assessments a WHERE a.tool_id = t.id)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO public.assessment_scores (id, assessment_id, total, intelligence, acceleration, experience, value)
+                SELECT a.id, a.id, s.total, s.intelligence, s.acceleration, s.experience, s.value
+                FROM public.assessments a
+                JOIN public.tools t ON t.id = a.tool_id
+                JOIN public.assessment_scores s ON s.assessment_id = 1 + (t.id - 1) % ?
+                WHERE NOT EXISTS (SELECT 1 FROM public.assessment_scores e WHERE e.assessment_id = a.id)
+                """, templates);
+        jdbcTemplate.update("""
+                INSERT INTO public.assessment_categories (id, assessment_id, "name", score, note)
+                SELECT (SELECT max(id) FROM public.assessment_categories) + row_number() OVER (ORDER BY a.id, c.id),
+                       a.id, c."name", c.score, c.note
+                FROM public.assessments a
+                JOIN public.assessment_categories c ON c.assessment_id = 1 + (a.id - 1) % ?
+                WHERE NOT EXISTS (SELECT 1 FROM public.assessment_categories e WHERE e.assessment_id = a.id)
+                """, templates);
+    }
+
+    private long lastStatementCount() {
+        return statistics().getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -1,12 +1,18 @@
 import axios from 'axios';
-import { Tool, PerformanceData, NoteData} from './types';
+import { Tool, PerformanceData, NoteData, ToolUpdateResult } from './types';
 
 const API_BASE_URL = process.env.REACT_APP_API_BASE_URL ;
 
 export const toolsApi = {
-    getAllTools: async (): Promise<Tool[]> => {
-        const response = await axios.get(`${API_BASE_URL}/tools`);
-        return response.data;
+    getAllTools: async (fields?: string): Promise<Tool[]> => {
+        const tools: Tool[] = [];
+        let afterId: string | undefined;
+        do {
+            const response = await axios.get(`${API_BASE_URL}/tools`, { params: { afterId, fields } });
+            tools.push(...response.data);
+            afterId = response.headers['x-next-cursor'];
+        } while (afterId);
+        return tools;
     },
 
     getActiveTools: async (): Promise<Tool[]> => {
@@ -24,12 +30,13 @@ export const toolsApi = {
         return response.data;
     },
 
-    updateTool: async (id: string, scores: Partial<Record<string, Record<string, number>>>, notes: Record<string, NoteData>): Promise<Tool> => {
+    updateTool: async (id: string, scores: Partial<Record<string, Record<string, number>>>, notes: Record<string, NoteData>, version?: number): Promise<ToolUpdateResult> => {
         const scoresAndNotes = {
             "scores": scores,
             "notes": notes
           }
-        const response = await axios.put(`${API_BASE_URL}/tools/${id}`, scoresAndNotes);
+        const headers = version === undefined ? undefined : { 'If-Match': `"v${version}"` };
+        const response = await axios.put(`${API_BASE_URL}/tools/${id}`, scoresAndNotes, { headers });
         return response.data;
     },
 
@@ -37,8 +44,17 @@ export const toolsApi = {
         await axios.delete(`${API_BASE_URL}/tools/${id}`);
     },
     
-    performance: async(): Promise<PerformanceData[]> => {
-        const response =  await axios.get(`${API_BASE_URL}/tools/performances`);
+    performance: async(sortBy: string = 'total', limit?: number): Promise<PerformanceData[]> => {
+        const response =  await axios.get(`${API_BASE_URL}/tools/performances`, { params: { sortBy, limit } });
         return response.data;
+    },
+
+    // Committed score changes as Server-Sent Events. `onResync` fires when the stream (re)connects or the
+    // server dropped events for this client; callers should reload their baseline then. Returns an unsubscribe function.
+    subscribeToScores: (onScore: (performance: PerformanceData) => void, onResync: () => void): (() => void) => {
+        const source = new EventSource(`${API_BASE_URL}/tools/events`);
+        source.addEventListener('score', (event) => onScore(JSON.parse((event as MessageEvent).data)));
+        source.addEventListener('resync', () => onResync());
+        return () => source.close();
     }
 };
@@ -42,6 +42,7 @@ export type NoteData = AccelerationNote | IntelligenceNote | ExperienceNote | Va
 
 export interface ToolAssessment {
     id: number;
+    version?: number;
     score: ToolScore;
     categories: CategoryScore[];
 }
@@ -57,6 +58,13 @@ export interface Tool {
     assessment: ToolAssessment;
 }
 
+export interface ToolUpdateResult {
+    toolId: number;
+    status: 'UPDATED' | 'UNCHANGED';
+    version: number;
+    changes: string[];
+}
+
 export interface PerformanceData {
     id: string;
     name: string;
@@ -65,6 +73,7 @@ export interface PerformanceData {
     acceleration: number;
     experience: number;
     value: number;
+    rank?: number;
   }
   
 export interface BarConfig {
@@ -1,5 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
+import axios from 'axios';
 import {
   Box,
   Paper,
@@ -1028,7 +1029,7 @@ const AssessmentContent: React.FC<AssessmentContentProps> = ({
     try {
 
       // Make API call to update tool details
-      await toolsApi.updateTool(toolDetails.id, allScores, allNotes);
+      await toolsApi.updateTool(toolDetails.id, allScores, allNotes, toolDetails.assessment?.version);
       
       // Submit final assessment data
       //await onScoreSubmit(currentScore, notes);
@@ -1042,7 +1043,10 @@ const AssessmentContent: React.FC<AssessmentContentProps> = ({
       });
     } catch (apiError) {
       console.error('Error updating tool via API:', apiError);
-      setError('Failed to save assessment. Please try again.');
+      const status = axios.isAxiosError(apiError) ? apiError.response?.status : undefined;
+      setError(status === 409 || status === 412
+        ? 'This tool was updated by someone else while you were editing. Reload it to see the latest assessment.'
+        : 'Failed to save assessment. Please try again.');
       throw apiError; // Re-throw to be caught by outer catch block
     }
   };
@@ -95,7 +95,7 @@ const PerformanceChart: React.FC = () => {
       setIsLoading(true);
       setError(null);
       const data = await toolsApi.performance();
-      setPerformanceData(data.sort((a, b) => b.total - a.total));
+      setPerformanceData(data);
     } catch (err) {
       setError('Failed to load performance data. Please try again.');
       console.error('Error fetching performance data:', err);
@@ -105,7 +105,13 @@ const PerformanceChart: React.FC = () => {
   };
 
   useEffect(() => {
-    fetchPerformanceData();
+    // The stream's first event is a resync, which loads the initial data.
+    return toolsApi.subscribeToScores(
+      (performance) => setPerformanceData((current) => current
+        .map((item) => (String(item.id) === String(performance.id) ? { ...item, ...performance } : item))
+        .sort((a, b) => b.total - a.total || Number(a.id) - Number(b.id))),
+      () => fetchPerformanceData()
+    );
   }, []);
 
   const handleRefresh = () => {
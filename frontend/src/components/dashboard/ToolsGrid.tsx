@@ -33,7 +33,7 @@ const ToolsGrid = () => {
       const fetchTools = async () => {
           try {
               setLoading(true);
-              const response = await toolsApi.getAllTools();
+              const response = await toolsApi.getAllTools('assessment');
               setTools(response);
           } catch (err) {
               setError('Failed to fetch tools data');
@@ -42,7 +42,27 @@ const ToolsGrid = () => {
               setLoading(false);
           }
       };
-      fetchTools();
+      // The stream's first event is a resync, which loads the initial data.
+      return toolsApi.subscribeToScores(
+          (performance) => setTools((current) => current.map((tool) =>
+              String(tool.id) === String(performance.id) && tool.assessment
+                  ? {
+                      ...tool,
+                      assessment: {
+                          ...tool.assessment,
+                          score: {
+                              ...tool.assessment.score,
+                              total: performance.total,
+                              intelligence: performance.intelligence,
+                              acceleration: performance.acceleration,
+                              experience: performance.experience,
+                              value: performance.value
+                          }
+                      }
+                  }
+                  : tool)),
+          () => fetchTools()
+      );
   }, []);
   const navigate = useNavigate();
   const theme = useTheme();